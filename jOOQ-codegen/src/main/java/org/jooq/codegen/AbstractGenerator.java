@@ -142,6 +142,7 @@ abstract class AbstractGenerator implements Generator {
     boolean                            generateTableValuedFunctions            = false;
     boolean                            generateEmptyCatalogs                   = false;
     boolean                            generateEmptySchemas                    = false;
+    boolean                            generateIncremental                     = false;
     boolean                            generatePrimaryKeyTypes                 = false;
     String                             generateNewline                         = "\n";
     String                             generateIndentation;
@@ -1077,6 +1078,16 @@ abstract class AbstractGenerator implements Generator {
         this.generateEmptySchemas = generateEmptySchemas;
     }
 
+    @Override
+    public boolean generateIncremental() {
+        return generateIncremental;
+    }
+
+    @Override
+    public void setGenerateIncremental(boolean generateIncremental) {
+        this.generateIncremental = generateIncremental;
+    }
+
     @Override
     public boolean generatePrimaryKeyTypes() {
         return generatePrimaryKeyTypes;
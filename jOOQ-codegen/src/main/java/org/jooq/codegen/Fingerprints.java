@@ -0,0 +1,326 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.codegen;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.Constants;
+import org.jooq.meta.AttributeDefinition;
+import org.jooq.meta.CheckConstraintDefinition;
+import org.jooq.meta.ColumnDefinition;
+import org.jooq.meta.DataTypeDefinition;
+import org.jooq.meta.Database;
+import org.jooq.meta.Definition;
+import org.jooq.meta.EmbeddableDefinition;
+import org.jooq.meta.ForeignKeyDefinition;
+import org.jooq.meta.IndexColumnDefinition;
+import org.jooq.meta.IndexDefinition;
+import org.jooq.meta.ParameterDefinition;
+import org.jooq.meta.RoutineDefinition;
+import org.jooq.meta.TableDefinition;
+import org.jooq.meta.TypedElementDefinition;
+import org.jooq.meta.UDTDefinition;
+import org.jooq.meta.UniqueKeyDefinition;
+
+/**
+ * Stable fingerprints of definitions, used for incremental code generation.
+ * <p>
+ * A fingerprint covers everything a definition's generated artifacts are
+ * derived from: its own columns, attributes, parameters, types (including
+ * forced types), keys, and the names of the objects it references. The
+ * fingerprint of the code generation configuration itself is mixed into each
+ * definition fingerprint, such that a configuration change invalidates all
+ * artifacts.
+ *
+ * @author Lukas Eder
+ */
+final class Fingerprints {
+
+    private final String                  configuration;
+    private final Map<Definition, String> cache;
+
+    Fingerprints(Generator generator, Database database) {
+        this.configuration = configuration(generator, database);
+        this.cache = new IdentityHashMap<>();
+    }
+
+    /**
+     * The fingerprint of a table, UDT, or routine.
+     */
+    final String fingerprint(Definition definition) {
+        String result = cache.get(definition);
+
+        if (result == null) {
+            StringBuilder sb = new StringBuilder(configuration);
+
+            if (definition instanceof TableDefinition)
+                table(sb, (TableDefinition) definition);
+            else if (definition instanceof UDTDefinition)
+                udt(sb, (UDTDefinition) definition);
+            else if (definition instanceof RoutineDefinition)
+                routine(sb, (RoutineDefinition) definition);
+            else
+                definition(sb, definition);
+
+            cache.put(definition, result = hash(sb.toString()));
+        }
+
+        return result;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Definitions
+    // -------------------------------------------------------------------------
+
+    private static final void definition(StringBuilder sb, Definition definition) {
+        sb.append("\n").append(definition.getClass().getName())
+          .append(" ").append(definition.getQualifiedOutputName())
+          .append(" ").append(definition.getOverload())
+          .append(" ").append(definition.getComment());
+    }
+
+    private static final void table(StringBuilder sb, TableDefinition table) {
+        definition(sb, table);
+        sb.append(" ").append(table.isTemporary())
+          .append(" ").append(table.isView())
+          .append(" ").append(table.isMaterializedView())
+          .append(" ").append(table.isTableValuedFunction())
+          .append(" ").append(table.getIdentity() == null ? null : table.getIdentity().getColumn().getName());
+
+        for (ColumnDefinition column : table.getColumns())
+            element(sb, column);
+
+        for (ParameterDefinition parameter : table.getParameters())
+            parameter(sb, parameter);
+
+        for (UniqueKeyDefinition key : table.getUniqueKeys()) {
+            names(sb.append("\nunique key ").append(key.getOutputName()).append(" ").append(key.isPrimaryKey()), key.getKeyColumns());
+
+            // Tables may generate navigation to referencing tables
+            for (ForeignKeyDefinition fk : key.getForeignKeys())
+                sb.append("\nreferenced by ").append(fk.getQualifiedOutputName())
+                  .append(" ").append(fk.getKeyTable().getQualifiedOutputName());
+        }
+
+        for (ForeignKeyDefinition fk : table.getForeignKeys()) {
+            names(sb.append("\nforeign key ").append(fk.getOutputName()), fk.getKeyColumns());
+            names(sb.append(" references ")
+                    .append(fk.getReferencedTable().getQualifiedOutputName())
+                    .append(" ")
+                    .append(fk.getReferencedKey().getOutputName()), fk.getReferencedColumns());
+        }
+
+        for (IndexDefinition index : table.getIndexes()) {
+            sb.append("\nindex ").append(index.getOutputName()).append(" ").append(index.isUnique());
+
+            for (IndexColumnDefinition column : index.getIndexColumns())
+                sb.append(" ").append(column.getName()).append(" ").append(column.getSortOrder());
+        }
+
+        for (CheckConstraintDefinition check : table.getCheckConstraints())
+            sb.append("\ncheck ").append(check.getOutputName()).append(" ").append(check.getCheckClause());
+
+        for (EmbeddableDefinition embeddable : table.getEmbeddables())
+            names(sb.append("\nembeddable ").append(embeddable.getOutputName()), embeddable.getColumns());
+    }
+
+    private static final void udt(StringBuilder sb, UDTDefinition udt) {
+        definition(sb, udt);
+        sb.append(" ").append(udt.isSynthetic());
+
+        for (AttributeDefinition attribute : udt.getAttributes())
+            element(sb, attribute);
+
+        for (RoutineDefinition routine : udt.getRoutines())
+            routine(sb, routine);
+    }
+
+    private static final void routine(StringBuilder sb, RoutineDefinition routine) {
+        definition(sb, routine);
+        sb.append(" ").append(routine.isSQLUsable())
+          .append(" ").append(routine.isAggregate());
+
+        if (routine.getReturnValue() != null)
+            parameter(sb.append("\nreturns"), routine.getReturnValue());
+
+        for (ParameterDefinition parameter : routine.getAllParameters())
+            parameter(sb.append(routine.getInParameters().contains(parameter) ? "\nin" : "").append(routine.getOutParameters().contains(parameter) ? " out" : ""), parameter);
+    }
+
+    private static final void parameter(StringBuilder sb, ParameterDefinition parameter) {
+        element(sb, parameter);
+        sb.append(" ").append(parameter.isDefaulted())
+          .append(" ").append(parameter.isUnnamed());
+    }
+
+    private static final void element(StringBuilder sb, TypedElementDefinition<?> element) {
+        sb.append("\n").append(element.getOutputName())
+          .append(" ").append(element.getComment());
+
+        if (element instanceof ColumnDefinition)
+            sb.append(" ").append(((ColumnDefinition) element).getPosition())
+              .append(" ").append(((ColumnDefinition) element).isIdentity());
+
+        type(sb, element.getType());
+    }
+
+    private static final void type(StringBuilder sb, DataTypeDefinition type) {
+        sb.append(" ").append(type.getType())
+          .append(" ").append(type.getJavaType())
+          .append(" ").append(type.getConverter())
+          .append(" ").append(type.getBinding())
+          .append(" ").append(type.getLength())
+          .append(" ").append(type.getPrecision())
+          .append(" ").append(type.getScale())
+          .append(" ").append(type.isNullable())
+          .append(" ").append(type.isIdentity())
+          .append(" ").append(type.isDefaulted())
+          .append(" ").append(type.getDefaultValue())
+          .append(" ").append(type.getQualifiedUserType());
+    }
+
+    private static final void names(StringBuilder sb, List<? extends Definition> definitions) {
+        for (Definition definition : definitions)
+            sb.append(" ").append(definition.getOutputName());
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Configuration
+    // -------------------------------------------------------------------------
+
+    /**
+     * A description of all simple configuration properties of the generator,
+     * its strategy, and the database.
+     */
+    private static final String configuration(Generator generator, Database database) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(Constants.FULL_VERSION)
+          .append("\n").append(generator.getClass().getName())
+          .append("\n").append(database.getClass().getName())
+          .append("\n").append(database.getDialect());
+
+        GeneratorStrategy strategy = generator.getStrategy();
+        if (strategy instanceof GeneratorStrategyWrapper)
+            strategy = ((GeneratorStrategyWrapper) strategy).delegate;
+
+        sb.append("\n").append(strategy.getClass().getName())
+          .append("\n").append(strategy.getTargetDirectory())
+          .append("\n").append(strategy.getTargetPackage());
+
+        if (strategy instanceof MatcherStrategy)
+            sb.append("\n").append(((MatcherStrategy) strategy).getMatchers());
+
+        properties(sb, Generator.class, generator);
+        properties(sb, Database.class, database);
+        return sb.toString();
+    }
+
+    private static final void properties(StringBuilder sb, Class<?> type, Object object) {
+        Method[] methods = type.getMethods();
+
+        // Method order is unspecified by the JDK
+        Arrays.sort(methods, new Comparator<Method>() {
+            @Override
+            public int compare(Method m1, Method m2) {
+                return m1.getName().compareTo(m2.getName());
+            }
+        });
+
+        for (Method method : methods) {
+            if (method.getParameterTypes().length > 0 || !isConfigurationProperty(method))
+                continue;
+
+            try {
+                Object value = method.invoke(object);
+                sb.append("\n").append(method.getName()).append("=")
+                  .append(value instanceof Object[] ? Arrays.toString((Object[]) value) : value);
+            }
+
+            // Some properties may not be available for some implementations
+            catch (Exception ignore) {}
+        }
+    }
+
+    private static final boolean isConfigurationProperty(Method method) {
+        Class<?> type = method.getReturnType();
+
+        if (type.isPrimitive())
+            return type != void.class;
+        else if (type == String.class || type == String[].class || type.isEnum() || Number.class.isAssignableFrom(type) || type == Boolean.class)
+            return true;
+
+        // Configured <forcedTypes/>, <embeddables/>, etc.
+        else if (List.class.isAssignableFrom(type)) {
+            Type generic = method.getGenericReturnType();
+
+            if (generic instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) generic).getActualTypeArguments()[0];
+                return argument instanceof Class && ((Class<?>) argument).getName().startsWith("org.jooq.meta.jaxb.");
+            }
+        }
+
+        return false;
+    }
+
+    private static final String hash(String string) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(string.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+            for (byte b : bytes)
+                sb.append(String.format("%02x", b));
+
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new GeneratorException("SHA-256 not available", e);
+        }
+    }
+}
@@ -822,6 +822,8 @@ public class GenerationTool {
                 generator.setGenerateEmptyCatalogs(g.getGenerate().isEmptyCatalogs());
             if (g.getGenerate().isEmptySchemas() != null)
                 generator.setGenerateEmptySchemas(g.getGenerate().isEmptySchemas());
+            if (g.getGenerate().isIncremental() != null)
+                generator.setGenerateIncremental(g.getGenerate().isIncremental());
             if (g.getGenerate().isPrimaryKeyTypes() != null)
                 generator.setGeneratePrimaryKeyTypes(g.getGenerate().isPrimaryKeyTypes());
             if (g.getGenerate().getNewline() != null)
@@ -959,6 +959,18 @@ public interface Generator {
      */
     void setGenerateEmptySchemas(boolean generateEmptySchemas);
 
+    /**
+     * Whether tables, UDTs, and routines should only be regenerated if their
+     * fingerprint has changed since the previous run.
+     */
+    boolean generateIncremental();
+
+    /**
+     * Whether tables, UDTs, and routines should only be regenerated if their
+     * fingerprint has changed since the previous run.
+     */
+    void setGenerateIncremental(boolean generateIncremental);
+
     /**
      * Whether wrapper types for primary keys should be generated.
      */
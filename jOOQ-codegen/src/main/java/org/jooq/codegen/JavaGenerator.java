@@ -54,7 +54,11 @@ import static org.jooq.tools.StringUtils.isBlank;
 
 import java.beans.ConstructorProperties;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
@@ -73,6 +77,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.regex.Matcher;
@@ -270,6 +275,19 @@ public class JavaGenerator extends AbstractGenerator {
      */
     private Set<File>                             directoriesNotForRemoval     = new LinkedHashSet<>();
 
+    /**
+     * The definition fingerprints, if {@link #generateIncremental()} is
+     * active.
+     */
+    private Fingerprints                          fingerprints;
+
+    /**
+     * The fingerprints of files generated by the previous and the current
+     * generator run, if {@link #generateIncremental()} is active.
+     */
+    private Properties                            previousManifest;
+    private Properties                            manifest;
+
     private final boolean                         java;
     private final boolean                         scala;
     private final boolean                         kotlin;
@@ -372,6 +390,7 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("  global references (sequences)", generateGlobalSequenceReferences());
         log.info("  global references (tables)", generateGlobalTableReferences());
         log.info("  global references (udts)", generateGlobalUDTReferences());
+        log.info("  incremental", generateIncremental());
         log.info("  indexes", generateIndexes());
         log.info("  instance fields", generateInstanceFields());
         log.info("  interfaces", generateInterfaces()
@@ -413,6 +432,12 @@ public class JavaGenerator extends AbstractGenerator {
         log.info("");
         log.info("----------------------------------------------------------");
 
+        if (generateIncremental()) {
+            this.fingerprints = new Fingerprints(this, db);
+            this.previousManifest = readManifest();
+            this.manifest = new Properties();
+        }
+
         // ----------------------------------------------------------------------
         // XXX Generating catalogs
         // ----------------------------------------------------------------------
@@ -434,6 +459,79 @@ public class JavaGenerator extends AbstractGenerator {
         empty(getStrategy().getFileRoot(), (scala ? ".scala" : kotlin ? ".kt" : ".java"), files, directoriesNotForRemoval);
         directoriesNotForRemoval.clear();
         files.clear();
+
+        if (generateIncremental()) {
+            writeManifest(manifest);
+
+            this.fingerprints = null;
+            this.previousManifest = null;
+            this.manifest = null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Incremental generation
+    // -------------------------------------------------------------------------
+
+    private File manifestFile() {
+        return new File(getStrategy().getFileRoot(), "jooq-codegen-manifest.properties");
+    }
+
+    private String manifestKey(File file) {
+        String root = getStrategy().getFileRoot().getAbsolutePath();
+        String path = file.getAbsolutePath();
+
+        return (path.startsWith(root) ? path.substring(root.length()) : path).replace(File.separatorChar, '/');
+    }
+
+    private Properties readManifest() {
+        Properties result = new Properties();
+        File file = manifestFile();
+
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                result.load(in);
+            }
+            catch (IOException e) {
+                log.warn("Incremental generation", "Cannot read manifest " + file + ". Regenerating all files.");
+                result.clear();
+            }
+        }
+
+        return result;
+    }
+
+    private void writeManifest(Properties properties) {
+        File file = manifestFile();
+        file.getParentFile().mkdirs();
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            properties.store(out, "jOOQ incremental code generation manifest. Do not edit.");
+        }
+        catch (IOException e) {
+            log.warn("Incremental generation", "Cannot write manifest " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a file generated from a definition is up to date with respect to
+     * the previous generator run, in case of which it is kept as it is.
+     */
+    private boolean upToDate(Definition definition, File file) {
+        if (fingerprints == null)
+            return false;
+
+        String key = manifestKey(file);
+        String fingerprint = fingerprints.fingerprint(definition);
+        manifest.setProperty(key, fingerprint);
+
+        if (fingerprint.equals(previousManifest.getProperty(key)) && file.exists()) {
+            files.add(file);
+            log.info("Skipping up to date", file.getName());
+            return true;
+        }
+
+        return false;
     }
 
     private boolean generateCatalogIfEmpty(CatalogDefinition catalog) {
@@ -1150,6 +1248,9 @@ public class JavaGenerator extends AbstractGenerator {
 
 
     protected void generateRecord(TableDefinition table) {
+        if (upToDate(table, getFile(table, Mode.RECORD)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.RECORD));
         log.info("Generating record", out.file().getName());
         generateRecord(table, out);
@@ -1157,6 +1258,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateUDTRecord(UDTDefinition udt) {
+        if (upToDate(udt, getFile(udt, Mode.RECORD)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt, Mode.RECORD));
         log.info("Generating record", out.file().getName());
         generateRecord0(udt, out);
@@ -1985,6 +2089,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateInterface(TableDefinition table) {
+        if (upToDate(table, getFile(table, Mode.INTERFACE)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.INTERFACE));
         log.info("Generating interface", out.file().getName());
         generateInterface(table, out);
@@ -1992,6 +2099,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateUDTInterface(UDTDefinition udt) {
+        if (upToDate(udt, getFile(udt, Mode.INTERFACE)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt, Mode.INTERFACE));
         log.info("Generating interface", out.file().getName());
         generateInterface0(udt, out);
@@ -2201,6 +2311,9 @@ public class JavaGenerator extends AbstractGenerator {
 
     @SuppressWarnings("unused")
     protected void generateUDT(SchemaDefinition schema, UDTDefinition udt) {
+        if (upToDate(udt, getFile(udt)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt));
         log.info("Generating UDT ", out.file().getName());
         generateUDT(udt, out);
@@ -3190,6 +3303,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateDao(TableDefinition table) {
+        if (upToDate(table, getFile(table, Mode.DAO)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.DAO));
         log.info("Generating DAO", out.file().getName());
         generateDao(table, out);
@@ -3440,6 +3556,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generatePojo(TableDefinition table) {
+        if (upToDate(table, getFile(table, Mode.POJO)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table, Mode.POJO));
         log.info("Generating POJO", out.file().getName());
         generatePojo(table, out);
@@ -3447,6 +3566,9 @@ public class JavaGenerator extends AbstractGenerator {
     }
 
     protected void generateUDTPojo(UDTDefinition udt) {
+        if (upToDate(udt, getFile(udt, Mode.POJO)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(udt, Mode.POJO));
         log.info("Generating POJO", out.file().getName());
         generatePojo0(udt, out);
@@ -4165,6 +4287,9 @@ public class JavaGenerator extends AbstractGenerator {
 
     @SuppressWarnings("unused")
     protected void generateTable(SchemaDefinition schema, TableDefinition table) {
+        if (upToDate(table, getFile(table)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(table));
         generateTable(table, out);
         closeJavaWriter(out);
@@ -5943,6 +6068,9 @@ public class JavaGenerator extends AbstractGenerator {
 
     @SuppressWarnings("unused")
     protected void generateRoutine(SchemaDefinition schema, RoutineDefinition routine) {
+        if (upToDate(routine, getFile(routine)))
+            return;
+
         JavaWriter out = newJavaWriter(getFile(routine));
         log.info("Generating routine", out.file().getName());
         generateRoutine(routine, out);
@@ -58,8 +58,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -216,6 +218,10 @@ public abstract class AbstractDatabase implements Database {
     private transient Map<SchemaDefinition, List<ArrayDefinition>>           arraysBySchema;
     private transient Map<SchemaDefinition, List<RoutineDefinition>>         routinesBySchema;
     private transient Map<SchemaDefinition, List<PackageDefinition>>         packagesBySchema;
+    private transient Map<List<?>, DefinitionIndex<?>>                       definitionIndexes;
+    private transient List<CompiledForcedType>                               compiledForcedTypes;
+    private transient Map<String, List<CompiledForcedType>>                  compiledForcedTypesByLiteral;
+    private transient List<CompiledForcedType>                               compiledForcedTypesByRegex;
     private transient boolean                                                initialised;
 
     // Other caches
@@ -540,17 +546,31 @@ public abstract class AbstractDatabase implements Database {
         if (pattern == null)
             return false;
 
+        return matches(pattern, matchNames(definition));
+    }
+
+    private static final boolean matches(Pattern pattern, List<String> names) {
+        for (String name : names)
+            if (pattern.matcher(name).matches())
+                return true;
+
+        return false;
+    }
+
+    /**
+     * The names of a definition that regular expressions are matched against.
+     */
+    final List<String> matchNames(Definition definition) {
         if (!getRegexMatchesPartialQualification())
-            return pattern.matcher(definition.getName()).matches()
-                || pattern.matcher(definition.getQualifiedName()).matches();
+            return Arrays.asList(definition.getName(), definition.getQualifiedName());
 
         List<Name> parts = Arrays.asList(definition.getQualifiedNamePart().parts());
+        List<String> result = new ArrayList<>(parts.size());
 
         for (int i = parts.size() - 1; i >= 0; i--)
-            if (pattern.matcher(DSL.name(parts.subList(i, parts.size()).toArray(new Name[0])).unquotedName().toString()).matches())
-                return true;
+            result.add(DSL.name(parts.subList(i, parts.size()).toArray(new Name[0])).unquotedName().toString());
 
-        return false;
+        return result;
     }
 
     final boolean matches(Set<?> set, Definition definition) {
@@ -1108,6 +1128,7 @@ public abstract class AbstractDatabase implements Database {
     @Override
     public final void setRegexFlags(List<RegexFlag> regexFlags) {
         this.patterns.setRegexFlags(regexFlags);
+        this.compiledForcedTypes = null;
     }
 
     @Override
@@ -1344,6 +1365,7 @@ public abstract class AbstractDatabase implements Database {
         //         append it.
         getConfiguredForcedTypes().addAll(configuredForcedTypes);
         unusedForcedTypes.addAll(configuredForcedTypes);
+        compiledForcedTypes = null;
     }
 
     @Override
@@ -1620,7 +1642,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final TableDefinition getTable(SchemaDefinition schema, String name, boolean ignoreCase) {
-        return getDefinition(getTables(schema), name, ignoreCase);
+        return index(getTables(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1630,7 +1652,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final TableDefinition getTable(SchemaDefinition schema, Name name, boolean ignoreCase) {
-        return getDefinition(getTables(schema), name, ignoreCase);
+        return index(getTables(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1685,17 +1707,14 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final ForcedType getConfiguredForcedType(Definition definition, DataTypeDefinition definedType) {
+        List<String> names = matchNames(definition);
+        List<String> typeNames = null;
 
         // [#5885] Only the first matching <forcedType/> is applied to the data type definition.
         forcedTypeLoop:
-        for (ForcedType forcedType : getConfiguredForcedTypes()) {
-            String excludeExpression = forcedType.getExcludeExpression();
-            String includeExpression = StringUtils.firstNonNull(forcedType.getIncludeExpression(), forcedType.getExpression(), forcedType.getExpressions());
-            String excludeTypes = forcedType.getExcludeTypes();
-            String includeTypes = StringUtils.firstNonNull(forcedType.getIncludeTypes(), forcedType.getTypes());
-            Nullability nullability = forcedType.getNullability();
-            ForcedTypeObjectType objectType = forcedType.getObjectType();
-            String sql = forcedType.getSql();
+        for (CompiledForcedType c : forcedTypeCandidates(names)) {
+            ForcedTypeObjectType objectType = c.forcedType.getObjectType();
+            Nullability nullability = c.forcedType.getNullability();
 
             if (     (objectType != null && objectType != ForcedTypeObjectType.ALL)
                  && ((objectType == ForcedTypeObjectType.ATTRIBUTE && !(definition instanceof AttributeDefinition))
@@ -1710,48 +1729,150 @@ public abstract class AbstractDatabase implements Database {
                  ||  (nullability == Nullability.NULL && !definedType.isNullable())))
                 continue forcedTypeLoop;
 
-            if (excludeExpression != null && matches(patterns.pattern(excludeExpression), definition))
+            if (c.excludeExpression != null && matches(c.excludeExpression, names))
                 continue forcedTypeLoop;
 
-            if (includeExpression != null && !matches(patterns.pattern(includeExpression), definition))
+            // Literal include expressions have already been matched by forcedTypeCandidates()
+            if (c.includeExpression != null && c.includeLiteral == null && !matches(c.includeExpression, names))
                 continue forcedTypeLoop;
 
-            if (    (definedType != null && (excludeTypes != null || includeTypes != null))
-                 && !typeMatchesExcludeInclude(definedType, excludeTypes, includeTypes))
-                continue forcedTypeLoop;
+            if (definedType != null && (c.excludeTypes != null || c.includeTypes != null)) {
+                if (typeNames == null)
+                    typeNames = typeNames(definedType);
+
+                if (c.excludeTypes != null && matches(c.excludeTypes, typeNames))
+                    continue forcedTypeLoop;
+
+                if (c.includeTypes != null && !matches(c.includeTypes, typeNames))
+                    continue forcedTypeLoop;
+            }
 
-            if (sql != null)
-                if (!matches(statements.fetchSet(sql), definition))
+            if (c.forcedType.getSql() != null)
+                if (!matches(statements.fetchSet(c.forcedType.getSql()), definition))
                     continue forcedTypeLoop;
 
-            return forcedType;
+            return c.forcedType;
         }
 
         return null;
     }
 
-    private boolean typeMatchesExcludeInclude(DataTypeDefinition type, String exclude, String include) {
-        if (exclude != null && matches(type, patterns.pattern(exclude)))
-            return false;
+    /**
+     * Get the forced types that may match a definition with the given
+     * {@link #matchNames(Definition)}, in configuration order.
+     * <p>
+     * Forced types whose include expression matches only a single name are
+     * looked up by name, the remaining ones have to be checked one by one.
+     */
+    private final List<CompiledForcedType> forcedTypeCandidates(List<String> names) {
+        compileForcedTypes();
+
+        List<CompiledForcedType> result = null;
+
+        for (String name : names) {
+            List<CompiledForcedType> list = compiledForcedTypesByLiteral.get(patterns.literalKey(name));
+
+            if (list != null) {
+                if (result == null)
+                    result = new ArrayList<>(compiledForcedTypesByRegex);
+
+                for (CompiledForcedType c : list)
+                    if (!result.contains(c))
+                        result.add(c);
+            }
+        }
+
+        if (result == null)
+            return compiledForcedTypesByRegex;
+
+        Collections.sort(result);
+        return result;
+    }
+
+    private final void compileForcedTypes() {
+        List<ForcedType> forcedTypes = getConfiguredForcedTypes();
+
+        if (compiledForcedTypes != null && compiledForcedTypes.size() == forcedTypes.size())
+            return;
+
+        compiledForcedTypes = new ArrayList<>(forcedTypes.size());
+        compiledForcedTypesByLiteral = new HashMap<>();
+        compiledForcedTypesByRegex = new ArrayList<>();
+
+        for (int i = 0; i < forcedTypes.size(); i++) {
+            CompiledForcedType c = new CompiledForcedType(i, forcedTypes.get(i));
+            compiledForcedTypes.add(c);
+
+            if (c.includeLiteral == null) {
+                compiledForcedTypesByRegex.add(c);
+            }
+            else {
+                List<CompiledForcedType> list = compiledForcedTypesByLiteral.get(c.includeLiteral);
+
+                if (list == null)
+                    compiledForcedTypesByLiteral.put(c.includeLiteral, list = new ArrayList<>());
+
+                list.add(c);
+            }
+        }
+    }
+
+    /**
+     * The various representations of a data type that type expressions are
+     * matched against.
+     */
+    private final List<String> typeNames(DataTypeDefinition type) {
+        List<String> result = new ArrayList<>();
+
+        result.add(type.getType());
+
+        if (type.getLength() != 0)
+            result.add(type.getType() + "(" + type.getLength() + ")");
+
+        if (type.getScale() == 0)
+            result.add(type.getType() + "(" + type.getPrecision() + ")");
+
+        result.add(type.getType() + "(" + type.getPrecision() + "," + type.getScale() + ")");
+        result.add(type.getType() + "(" + type.getPrecision() + ", " + type.getScale() + ")");
+
+        // [#5872] We should match user-defined types as well, in case of which the type might be reported
+        //         as USER-DEFINED (in PostgreSQL)
+        if (!StringUtils.isBlank(type.getUserType())) {
+            result.add(type.getUserType());
+            result.add(type.getQualifiedUserType().unquotedName().toString());
+        }
 
-        return include == null || matches(type, patterns.pattern(include));
+        return result;
     }
 
-    private boolean matches(DataTypeDefinition type, Pattern pattern) {
-        return  ( pattern.matcher(type.getType()).matches() )
-             || (     type.getLength() != 0
-             &&   pattern.matcher(type.getType() + "(" + type.getLength() + ")").matches() )
-             || (     type.getScale() == 0
-             &&   pattern.matcher(type.getType() + "(" + type.getPrecision() + ")").matches() )
-             || ( pattern.matcher(type.getType() + "(" + type.getPrecision() + "," + type.getScale() + ")").matches() )
-             || ( pattern.matcher(type.getType() + "(" + type.getPrecision() + ", " + type.getScale() + ")").matches() )
+    /**
+     * A {@link ForcedType} whose expressions have been compiled once.
+     */
+    private final class CompiledForcedType implements Comparable<CompiledForcedType> {
+        final int        index;
+        final ForcedType forcedType;
+        final Pattern    excludeExpression;
+        final Pattern    includeExpression;
+        final String     includeLiteral;
+        final Pattern    excludeTypes;
+        final Pattern    includeTypes;
+
+        CompiledForcedType(int index, ForcedType forcedType) {
+            String include = StringUtils.firstNonNull(forcedType.getIncludeExpression(), forcedType.getExpression(), forcedType.getExpressions());
+
+            this.index = index;
+            this.forcedType = forcedType;
+            this.excludeExpression = patterns.pattern(forcedType.getExcludeExpression());
+            this.includeExpression = patterns.pattern(include);
+            this.includeLiteral = patterns.literal(include);
+            this.excludeTypes = patterns.pattern(forcedType.getExcludeTypes());
+            this.includeTypes = patterns.pattern(StringUtils.firstNonNull(forcedType.getIncludeTypes(), forcedType.getTypes()));
+        }
 
-             // [#5872] We should match user-defined types as well, in case of which the type might be reported
-             //         as USER-DEFINED (in PostgreSQL)
-             || ( !StringUtils.isBlank(type.getUserType())
-             && ( pattern.matcher(type.getUserType()).matches()
-             ||   pattern.matcher(type.getQualifiedUserType().unquotedName().toString()).matches() )
-            );
+        @Override
+        public int compareTo(CompiledForcedType o) {
+            return Integer.compare(index, o.index);
+        }
     }
 
     @Override
@@ -1771,21 +1892,73 @@ public abstract class AbstractDatabase implements Database {
     public final List<EmbeddableDefinition> getEmbeddables() {
         List<EmbeddableDefinition> result = new ArrayList<>();
 
+        // Expressions are compiled only once, and literal expressions are
+        // looked up by name, rather than matched against each column
+        Map<EmbeddableField, Pattern> fieldPatterns = new HashMap<>();
+        Map<EmbeddableField, String> fieldLiterals = new HashMap<>();
+
+        for (Embeddable embeddable : getConfiguredEmbeddables()) {
+            for (EmbeddableField embeddableField : embeddable.getFields()) {
+                fieldPatterns.put(embeddableField, patterns.pattern(embeddableField.getExpression()));
+                fieldLiterals.put(embeddableField, patterns.literal(embeddableField.getExpression()));
+            }
+        }
+
         for (SchemaDefinition schema : getSchemata()) {
             for (TableDefinition table : getTables(schema)) {
+                List<ColumnDefinition> tableColumns = table.getColumns();
+                List<List<String>> tableColumnNames = null;
+                Map<String, Set<ColumnDefinition>> tableColumnsByLiteral = null;
+
                 for (Embeddable embeddable : getConfiguredEmbeddables()) {
                     List<ColumnDefinition> columns = new ArrayList<>();
                     List<String> names = new ArrayList<>();
 
                     for (EmbeddableField embeddableField : embeddable.getFields()) {
+                        Pattern pattern = fieldPatterns.get(embeddableField);
+                        String literal = fieldLiterals.get(embeddableField);
                         boolean matched = false;
 
-                        for (ColumnDefinition column : table.getColumns())
-                            if (matches(patterns.pattern(embeddableField.getExpression()), column))
-                                if (matched)
-                                    log.warn("EmbeddableField configuration matched several columns in table " + table + ": " + embeddableField);
-                                else
-                                    matched = columns.add(column) && names.add(defaultIfEmpty(embeddableField.getName(), column.getName()));
+                        if (pattern == null)
+                            continue;
+
+                        if (tableColumnNames == null) {
+                            tableColumnNames = new ArrayList<>(tableColumns.size());
+                            tableColumnsByLiteral = new HashMap<>();
+
+                            for (ColumnDefinition column : tableColumns) {
+                                List<String> columnNames = matchNames(column);
+                                tableColumnNames.add(columnNames);
+
+                                for (String columnName : columnNames) {
+                                    String key = patterns.literalKey(columnName);
+                                    Set<ColumnDefinition> set = tableColumnsByLiteral.get(key);
+
+                                    if (set == null)
+                                        tableColumnsByLiteral.put(key, set = new LinkedHashSet<>());
+
+                                    set.add(column);
+                                }
+                            }
+                        }
+
+                        for (int i = 0; i < tableColumns.size(); i++) {
+                            ColumnDefinition column = tableColumns.get(i);
+
+                            if (literal != null) {
+                                Set<ColumnDefinition> set = tableColumnsByLiteral.get(literal);
+
+                                if (set == null || !set.contains(column))
+                                    continue;
+                            }
+                            else if (!matches(pattern, tableColumnNames.get(i)))
+                                continue;
+
+                            if (matched)
+                                log.warn("EmbeddableField configuration matched several columns in table " + table + ": " + embeddableField);
+                            else
+                                matched = columns.add(column) && names.add(defaultIfEmpty(embeddableField.getName(), column.getName()));
+                        }
                     }
 
                     if (columns.size() == embeddable.getFields().size())
@@ -1839,7 +2012,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final EnumDefinition getEnum(SchemaDefinition schema, String name, boolean ignoreCase) {
-        return getDefinition(getEnums(schema), name, ignoreCase);
+        return index(getEnums(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1849,7 +2022,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final EnumDefinition getEnum(SchemaDefinition schema, Name name, boolean ignoreCase) {
-        return getDefinition(getEnums(schema), name, ignoreCase);
+        return index(getEnums(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1881,7 +2054,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final DomainDefinition getDomain(SchemaDefinition schema, String name, boolean ignoreCase) {
-        return getDefinition(getDomains(schema), name, ignoreCase);
+        return index(getDomains(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1891,7 +2064,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final DomainDefinition getDomain(SchemaDefinition schema, Name name, boolean ignoreCase) {
-        return getDefinition(getDomains(schema), name, ignoreCase);
+        return index(getDomains(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1927,7 +2100,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final ArrayDefinition getArray(SchemaDefinition schema, String name, boolean ignoreCase) {
-        return getDefinition(getArrays(schema), name, ignoreCase);
+        return index(getArrays(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1937,7 +2110,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final ArrayDefinition getArray(SchemaDefinition schema, Name name, boolean ignoreCase) {
-        return getDefinition(getArrays(schema), name, ignoreCase);
+        return index(getArrays(schema)).get(name, ignoreCase);
     }
 
     private final List<UDTDefinition> getAllUDTs(SchemaDefinition schema) {
@@ -1987,7 +2160,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final UDTDefinition getUDT(SchemaDefinition schema, String name, boolean ignoreCase) {
-        return getDefinition(getUDTs(schema), name, ignoreCase);
+        return index(getUDTs(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -1997,7 +2170,7 @@ public abstract class AbstractDatabase implements Database {
 
     @Override
     public final UDTDefinition getUDT(SchemaDefinition schema, Name name, boolean ignoreCase) {
-        return getDefinition(getUDTs(schema), name, ignoreCase);
+        return index(getUDTs(schema)).get(name, ignoreCase);
     }
 
     @Override
@@ -2139,6 +2312,23 @@ public abstract class AbstractDatabase implements Database {
         return null;
     }
 
+    /**
+     * Get a name index for a list of definitions, which is cached for as long
+     * as the list remains unchanged.
+     */
+    @SuppressWarnings("unchecked")
+    private final <D extends Definition> DefinitionIndex<D> index(List<D> definitions) {
+        if (definitionIndexes == null)
+            definitionIndexes = new IdentityHashMap<>();
+
+        DefinitionIndex<D> result = (DefinitionIndex<D>) definitionIndexes.get(definitions);
+
+        if (result == null || !result.isValidFor(definitions))
+            definitionIndexes.put(definitions, result = new DefinitionIndex<>(definitions));
+
+        return result;
+    }
+
     protected static final <D extends Definition> D getDefinition(List<D> definitions, String name, boolean ignoreCase) {
         if (name == null)
             return null;
@@ -39,7 +39,6 @@
 package org.jooq.meta;
 
 import static org.jooq.meta.AbstractDatabase.fetchedSize;
-import static org.jooq.meta.AbstractDatabase.getDefinition;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -66,6 +65,7 @@ extends AbstractDefinition {
     private static final JooqLogger log             = JooqLogger.getLogger(AbstractElementContainerDefinition.class);
 
     private List<E>                 elements;
+    private DefinitionIndex<E>      elementIndex;
 
     public AbstractElementContainerDefinition(SchemaDefinition schema, String name, String comment) {
         this(schema, null, name, comment);
@@ -129,7 +129,12 @@ extends AbstractDefinition {
     }
 
     protected final E getElement(String name, boolean ignoreCase) {
-        return getDefinition(getElements(), name, ignoreCase);
+        List<E> e = getElements();
+
+        if (elementIndex == null || !elementIndex.isValidFor(e))
+            elementIndex = new DefinitionIndex<>(e);
+
+        return elementIndex.get(name, ignoreCase);
     }
 
     protected final E getElement(int index) {
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.meta;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.Name;
+
+/**
+ * A name index over a list of {@link Definition} objects, replacing linear
+ * scans in {@link AbstractDatabase#getDefinition(List, String, boolean)} and
+ * {@link AbstractDatabase#getDefinition(List, Name, boolean)}.
+ * <p>
+ * Like the linear scans, lookups return the first matching definition. The
+ * index is only valid as long as the indexed list isn't modified, see
+ * {@link #isValidFor(List)}.
+ *
+ * @author Lukas Eder
+ */
+final class DefinitionIndex<D extends Definition> {
+
+    private final List<D>              definitions;
+    private final int                  size;
+    private Map<String, D>             byName;
+    private Map<String, D>             byNameIgnoreCase;
+    private Map<List<String>, D>       byQualifiedName;
+    private Map<List<String>, D>       byQualifiedNameIgnoreCase;
+
+    DefinitionIndex(List<D> definitions) {
+        this.definitions = definitions;
+        this.size = definitions.size();
+    }
+
+    final boolean isValidFor(List<D> list) {
+        return definitions == list && size == list.size();
+    }
+
+    final D get(String name, boolean ignoreCase) {
+        if (name == null)
+            return null;
+
+        if (ignoreCase) {
+            if (byNameIgnoreCase == null) {
+                byNameIgnoreCase = new HashMap<>();
+
+                for (D definition : definitions)
+                    putIfAbsent(byNameIgnoreCase, ignoreCase(definition.getName()), definition);
+            }
+
+            return byNameIgnoreCase.get(ignoreCase(name));
+        }
+        else {
+            if (byName == null) {
+                byName = new HashMap<>();
+
+                for (D definition : definitions)
+                    putIfAbsent(byName, definition.getName(), definition);
+            }
+
+            return byName.get(name);
+        }
+    }
+
+    final D get(Name name, boolean ignoreCase) {
+        if (name == null)
+            return null;
+
+        if (ignoreCase) {
+            if (byQualifiedNameIgnoreCase == null) {
+                byQualifiedNameIgnoreCase = new HashMap<>();
+
+                for (D definition : definitions)
+                    putIfAbsent(byQualifiedNameIgnoreCase, ignoreCase(definition.getQualifiedNamePart()), definition);
+            }
+
+            return byQualifiedNameIgnoreCase.get(ignoreCase(name));
+        }
+        else {
+            if (byQualifiedName == null) {
+                byQualifiedName = new HashMap<>();
+
+                for (D definition : definitions)
+                    putIfAbsent(byQualifiedName, Arrays.asList(definition.getQualifiedNamePart().getName()), definition);
+            }
+
+            return byQualifiedName.get(Arrays.asList(name.getName()));
+        }
+    }
+
+    private static final <K, D> void putIfAbsent(Map<K, D> map, K key, D definition) {
+        if (!map.containsKey(key))
+            map.put(key, definition);
+    }
+
+    private static final List<String> ignoreCase(Name name) {
+        String[] parts = name.getName().clone();
+
+        for (int i = 0; i < parts.length; i++)
+            parts[i] = ignoreCase(parts[i]);
+
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * A key that is equal for two strings if {@link String#equalsIgnoreCase(String)}
+     * holds, for all practical purposes.
+     */
+    private static final String ignoreCase(String string) {
+        if (string == null)
+            return null;
+
+        StringBuilder sb = null;
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            char k = Character.toLowerCase(Character.toUpperCase(c));
+
+            if (k != c && sb == null)
+                sb = new StringBuilder(string.substring(0, i));
+
+            if (sb != null)
+                sb.append(k);
+        }
+
+        return sb == null ? string : sb.toString();
+    }
+}
@@ -68,16 +68,7 @@ public final class Patterns {
         if (pattern == null) {
             int flags = 0;
 
-            List<RegexFlag> list = new ArrayList<>(getRegexFlags());
-
-            // [#3860] This should really be handled by JAXB, but apparently, @XmlList and @XmlElement(defaultValue=...)
-            // cannot be combined: http://stackoverflow.com/q/27528698/521799
-            if (list.isEmpty()) {
-                list.add(RegexFlag.COMMENTS);
-                list.add(RegexFlag.CASE_INSENSITIVE);
-            }
-
-            for (RegexFlag flag : list) {
+            for (RegexFlag flag : effectiveRegexFlags()) {
                 switch (flag) {
                     case CANON_EQ:                flags |= Pattern.CANON_EQ;                break;
                     case CASE_INSENSITIVE:        flags |= Pattern.CASE_INSENSITIVE;        break;
@@ -98,6 +89,86 @@ public final class Patterns {
         return pattern;
     }
 
+    /**
+     * Get the string matched by a regular expression, if the regular expression
+     * matches exactly one string, or <code>null</code> if it doesn't.
+     * <p>
+     * This allows for looking up {@link #literalKey(String)} values in hash
+     * maps, instead of evaluating many regular expressions one after the other.
+     * Only simple identifier-like expressions (e.g. <code>a_b\.c</code>)
+     * are recognised. Case insensitive literals are returned in lower case.
+     */
+    public final String literal(String regex) {
+        if (regex == null)
+            return null;
+
+        List<RegexFlag> flags = effectiveRegexFlags();
+        if (flags.contains(RegexFlag.UNICODE_CASE) || flags.contains(RegexFlag.CANON_EQ))
+            return null;
+
+        StringBuilder sb = new StringBuilder(regex.length());
+
+        if (flags.contains(RegexFlag.LITERAL)) {
+            sb.append(regex);
+        }
+        else {
+            for (int i = 0; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+
+                if (c == '\\' && i + 1 < regex.length() && regex.charAt(i + 1) == '.')
+                    sb.append(regex.charAt(++i));
+                else if (c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '_')
+                    sb.append(c);
+                else
+                    return null;
+            }
+        }
+
+        for (int i = 0; i < sb.length(); i++)
+            if (sb.charAt(i) > 127)
+                return null;
+
+        return sb.length() == 0 ? null : literalKey(sb.toString());
+    }
+
+    /**
+     * Get the key under which a name can be looked up among the
+     * {@link #literal(String)} values.
+     */
+    public final String literalKey(String name) {
+        if (name == null || !effectiveRegexFlags().contains(RegexFlag.CASE_INSENSITIVE))
+            return name;
+
+        StringBuilder sb = null;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (c >= 'A' && c <= 'Z') {
+                if (sb == null)
+                    sb = new StringBuilder(name);
+
+                sb.setCharAt(i, (char) (c + ('a' - 'A')));
+            }
+        }
+
+        return sb == null ? name : sb.toString();
+    }
+
+    private final List<RegexFlag> effectiveRegexFlags() {
+        List<RegexFlag> list = getRegexFlags();
+
+        // [#3860] This should really be handled by JAXB, but apparently, @XmlList and @XmlElement(defaultValue=...)
+        // cannot be combined: http://stackoverflow.com/q/27528698/521799
+        if (list.isEmpty()) {
+            list = new ArrayList<>();
+            list.add(RegexFlag.COMMENTS);
+            list.add(RegexFlag.CASE_INSENSITIVE);
+        }
+
+        return list;
+    }
+
     public void setRegexFlags(List<RegexFlag> regexFlags) {
         this.regexFlags = regexFlags;
         this.patterns.clear();
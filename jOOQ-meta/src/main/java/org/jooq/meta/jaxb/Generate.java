@@ -188,6 +188,8 @@ public class Generate implements Serializable, XMLAppendable
     protected Boolean emptyCatalogs = false;
     @XmlElement(defaultValue = "false")
     protected Boolean emptySchemas = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean incremental = false;
     @XmlElement(defaultValue = "true")
     protected Boolean javaTimeTypes = true;
     @XmlElement(defaultValue = "false")
@@ -2065,6 +2067,32 @@ public class Generate implements Serializable, XMLAppendable
         this.emptySchemas = value;
     }
 
+    /**
+     * Whether tables, UDTs, and routines should only be regenerated if their fingerprint has changed since the previous run.
+     * <p>
+     * Fingerprints of definitions and of the code generation configuration are stored in a manifest file in the target package directory.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Sets the value of the incremental property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIncremental(Boolean value) {
+        this.incremental = value;
+    }
+
     /**
      * A flag indicating whether Java 8's java.time types should be used by the
      * source code generator, rather than JDBC's java.sql types.
@@ -2563,6 +2591,11 @@ public class Generate implements Serializable, XMLAppendable
         return this;
     }
 
+    public Generate withIncremental(Boolean value) {
+        setIncremental(value);
+        return this;
+    }
+
     public Generate withJavaTimeTypes(Boolean value) {
         setJavaTimeTypes(value);
         return this;
@@ -2671,6 +2704,7 @@ public class Generate implements Serializable, XMLAppendable
         builder.append("fullyQualifiedTypes", fullyQualifiedTypes);
         builder.append("emptyCatalogs", emptyCatalogs);
         builder.append("emptySchemas", emptySchemas);
+        builder.append("incremental", incremental);
         builder.append("javaTimeTypes", javaTimeTypes);
         builder.append("primaryKeyTypes", primaryKeyTypes);
         builder.append("newline", newline);
@@ -3398,6 +3432,15 @@ public class Generate implements Serializable, XMLAppendable
                 return false;
             }
         }
+        if (incremental == null) {
+            if (other.incremental!= null) {
+                return false;
+            }
+        } else {
+            if (!incremental.equals(other.incremental)) {
+                return false;
+            }
+        }
         if (javaTimeTypes == null) {
             if (other.javaTimeTypes!= null) {
                 return false;
@@ -3519,6 +3562,7 @@ public class Generate implements Serializable, XMLAppendable
         result = ((prime*result)+((fullyQualifiedTypes == null)? 0 :fullyQualifiedTypes.hashCode()));
         result = ((prime*result)+((emptyCatalogs == null)? 0 :emptyCatalogs.hashCode()));
         result = ((prime*result)+((emptySchemas == null)? 0 :emptySchemas.hashCode()));
+        result = ((prime*result)+((incremental == null)? 0 :incremental.hashCode()));
         result = ((prime*result)+((javaTimeTypes == null)? 0 :javaTimeTypes.hashCode()));
         result = ((prime*result)+((primaryKeyTypes == null)? 0 :primaryKeyTypes.hashCode()));
         result = ((prime*result)+((newline == null)? 0 :newline.hashCode()));
@@ -99,6 +99,52 @@ public interface Batch extends Serializable {
     @NotNull
     CompletionStage<int[]> executeAsync(Executor executor);
 
+    /**
+     * Execute the batch operation in chunks of <code>chunkSize</code> queries
+     * (or bind value sets) in a new {@link CompletionStage}.
+     * <p>
+     * The chunks are executed one after the other by tasks running in an
+     * {@link Executor} provided by the underlying
+     * {@link Configuration#executorProvider()}.
+     *
+     * @see #executeAsync(Executor, int, int, BatchChunkListener)
+     */
+    @NotNull
+    CompletionStage<int[]> executeAsync(int chunkSize, BatchChunkListener listener);
+
+    /**
+     * Execute the batch operation in chunks of <code>chunkSize</code> queries
+     * (or bind value sets) in a new {@link CompletionStage} that is
+     * asynchronously completed by tasks running in the given executor.
+     * <p>
+     * Each chunk is executed as a separate JDBC batch, acquiring its own
+     * {@link java.sql.Connection} from the {@link ConnectionProvider}. Up to
+     * <code>parallelism</code> chunks are executed concurrently, which allows
+     * for preparing and executing chunk <code>N + 1</code> while chunk
+     * <code>N</code> is still executing, if the {@link ConnectionProvider}
+     * pools connections. Chunks running concurrently don't share a
+     * transaction.
+     * <p>
+     * The resulting {@link CompletionStage} is completed with the
+     * concatenation of all chunk results. If any chunk or any invocation of
+     * the <code>listener</code> fails, no further chunks are started, and the
+     * {@link CompletionStage} is completed exceptionally with a
+     * {@link org.jooq.exception.BatchChunkException}, which contains the
+     * partial result, and which distinguishes listener failures from chunk
+     * failures.
+     *
+     * @param executor The executor running the chunks.
+     * @param chunkSize The maximum number of queries (or bind value sets) per
+     *            chunk.
+     * @param parallelism The maximum number of chunks executing at the same
+     *            time.
+     * @param listener The listener to be notified of each executed chunk, or
+     *            <code>null</code> if no progress notification is needed.
+     * @see Statement#executeBatch()
+     */
+    @NotNull
+    CompletionStage<int[]> executeAsync(Executor executor, int chunkSize, int parallelism, BatchChunkListener listener);
+
 
 
     /**
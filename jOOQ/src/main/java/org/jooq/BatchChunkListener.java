@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.sql.Statement;
+
+/**
+ * A listener that is notified of the progress of a chunked {@link Batch}
+ * execution.
+ * <p>
+ * If a batch is executed in chunks using
+ * {@link Batch#executeAsync(java.util.concurrent.Executor, int, int, BatchChunkListener)},
+ * this listener is invoked once per successfully executed chunk, on the
+ * thread that executed it. If chunks are executed in parallel, the listener
+ * may be invoked concurrently, and out of order.
+ *
+ * @author Lukas Eder
+ */
+@FunctionalInterface
+public interface BatchChunkListener {
+
+    /**
+     * A chunk of the batch has been executed successfully.
+     *
+     * @param offset The offset of the chunk's first query (or bind value set)
+     *            in the batch.
+     * @param count The number of queries (or bind value sets) in the chunk.
+     * @param result The chunk's result, as returned from
+     *            {@link Statement#executeBatch()}.
+     */
+    void chunkExecuted(int offset, int count, int[] result);
+}
@@ -566,6 +566,64 @@ public interface Cursor<R extends Record> extends Iterable<R>, Formattable , Aut
      */
     <X, A> X collect(Collector<? super R, A, X> collector) throws DataAccessException;
 
+    /**
+     * Prefetch records from the underlying {@link ResultSet} on a separate
+     * thread.
+     * <p>
+     * Once prefetching is turned on, records are fetched and decoded
+     * asynchronously on a dedicated daemon thread, and buffered in a bounded
+     * buffer of up to <code>size</code> records, from which all other methods
+     * of this <code>Cursor</code> consume records. This allows for overlapping
+     * the processing of records by client code with the network I/O and
+     * decoding needed for subsequent records.
+     * <p>
+     * All {@link ExecuteListener} events are fired on the consuming thread, in
+     * the usual order. {@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} are fired when a
+     * prefetched record is consumed, at which point its values have already
+     * been decoded. Exceptions are propagated to the consuming thread, once
+     * all records fetched prior to the exception have been consumed.
+     * <p>
+     * Calling {@link #close()} stops prefetching, waits for the prefetching
+     * thread to release the underlying {@link ResultSet}, and then closes it.
+     * Calling this method more than once, or on a closed <code>Cursor</code>
+     * has no effect.
+     *
+     * @param size The maximum number of records to prefetch. If this is
+     *            <code>0</code> or less, this call has no effect.
+     * @return This cursor.
+     */
+    @NotNull
+    Cursor<R> prefetch(int size);
+
+    /**
+     * Convert record values lazily, on first access.
+     * <p>
+     * By default, all values of a record are read from the underlying
+     * {@link ResultSet} and passed through their {@link Binding} and
+     * {@link Converter} when the record is fetched. Once lazy decoding is
+     * turned on, subsequently fetched records still read all values from the
+     * {@link ResultSet} eagerly, but defer the {@link Converter} of each
+     * value until it is first accessed. This saves work when only few
+     * columns with expensive user-defined {@link Converter} implementations
+     * are read, e.g. in {@link #forEach(java.util.function.Consumer)} loops or
+     * {@link #stream()} pipelines.
+     * <p>
+     * As the {@link ResultSet} is not accessed anymore after a record has
+     * been fetched, records can be used independently of this
+     * <code>Cursor</code>'s position, e.g. after fetching further records, or
+     * after closing this <code>Cursor</code>.
+     * <p>
+     * Lazy decoding is not applied to nested records, to interned values, to
+     * values without a {@link Converter}, to values with a custom
+     * {@link Binding}, or when {@link #prefetch(int)} is used. Calling this
+     * method on a closed <code>Cursor</code> has no effect.
+     *
+     * @return This cursor.
+     */
+    @NotNull
+    Cursor<R> decodeLazily();
+
 
 
     /**
@@ -85,6 +85,7 @@ import java.util.Properties;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -639,6 +640,36 @@ public interface DSLContext extends Scope , AutoCloseable {
      */
     void connection(ConnectionRunnable runnable);
 
+    /**
+     * Run a {@link PipelinedRunnable} in a pipelined scope.
+     * <p>
+     * Update queries (<code>INSERT</code>, <code>UPDATE</code>,
+     * <code>DELETE</code>, <code>MERGE</code>) that are executed with
+     * {@link Query#execute()} using the {@link Configuration} passed to the
+     * <code>runnable</code> are not executed immediately, but queued, and
+     * {@link Query#execute()} returns <code>0</code>. The queue is flushed in
+     * order, executing consecutive queries that render the same SQL in a
+     * single JDBC batch:
+     * <ul>
+     * <li>At the end of the scope.</li>
+     * <li>When the queue reaches {@link Settings#getPipelineBatchSize()}.</li>
+     * <li>Before any other query, batch, routine, or transaction is executed
+     * in the scope, e.g. a {@link ResultQuery} or an update query with a
+     * <code>RETURNING</code> clause.</li>
+     * </ul>
+     * <p>
+     * {@link UpdatableRecord} and {@link TableRecord} operations are never
+     * queued, as they depend on their update counts.
+     * <p>
+     * If the <code>runnable</code> throws an exception, queries that have not
+     * yet been flushed are discarded.
+     *
+     * @param runnable The code running update queries.
+     * @return The update counts of all queued queries, in execution order.
+     */
+    @NotNull
+    int[] pipelined(PipelinedRunnable runnable);
+
     /**
      * Run a {@link MockRunnable} in the context of this <code>DSLContext</code>
      * 's underlying {@link #configuration()}'s, and of a
@@ -3960,6 +3991,28 @@ public interface DSLContext extends Scope , AutoCloseable {
     @Support
     Result<Record> fetchFromXML(String string);
 
+    /**
+     * Stream all data from an XML source.
+     * <p>
+     * This is the same as {@link #fetchFromXML(String)}, except that records
+     * are read lazily from the source, one at a time, while the stream is
+     * being consumed. Only the current record is kept in memory, which allows
+     * for reading XML data of arbitrary size, such as large
+     * {@link Result#formatXML()} exports.
+     * <p>
+     * The resulting stream holds an open reader on the source, which is closed
+     * when the stream is consumed entirely, or when {@link Stream#close()} is
+     * called. Clients should use a <code>try-with-resources</code> statement
+     * to ensure this.
+     *
+     * @param source The XML source
+     * @return The transformed records. This will never be <code>null</code>.
+     * @throws DataAccessException If anything went wrong parsing the XML source
+     */
+    @NotNull
+    @Support
+    Stream<Record> fetchStreamFromXML(Source source);
+
     /**
      * Fetch all data from a list of strings.
      * <p>
@@ -8952,6 +9005,63 @@ public interface DSLContext extends Scope , AutoCloseable {
     @Support
     Batch batchDelete(Collection<? extends UpdatableRecord<?>> records);
 
+    // -------------------------------------------------------------------------
+    // XXX Bulk record operations
+    // -------------------------------------------------------------------------
+
+    /**
+     * Find those records among a set of {@link UpdatableRecord} instances,
+     * whose corresponding database record has been changed or deleted since
+     * they were fetched.
+     * <p>
+     * The database records are fetched using a single
+     * <code>SELECT .. WHERE (pk) IN (..)</code> query per table (chunked
+     * according to {@link org.jooq.conf.Settings#getInlineThreshold()} and
+     * the dialect's bind value limits), instead of one query per record.
+     * Records of tables with a {@link Table#getRecordVersion()} or
+     * {@link Table#getRecordTimestamp()} column are compared by their
+     * original version and timestamp values only, other records by all of
+     * their original values, in the same way as
+     * {@link org.jooq.conf.Settings#isExecuteWithOptimisticLocking()} does
+     * for individual records.
+     *
+     * @param records The records to check
+     * @return The stale records, in the order in which they were passed.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Support
+    <R extends UpdatableRecord<?>> List<R> fetchStale(Collection<? extends R> records) throws DataAccessException;
+
+    /**
+     * Refresh a set of {@link UpdatableRecord} instances from the database.
+     * <p>
+     * This has the same semantics as calling {@link UpdatableRecord#refresh()}
+     * on each record, but fetches the database records using a single
+     * <code>SELECT .. WHERE (pk) IN (..)</code> query per table (chunked
+     * according to the dialect's bind value limits).
+     *
+     * @param records The records to refresh
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws NoDataFoundException If any of the records does not exist in the
+     *             database any longer. In that case, no record is refreshed.
+     * @see UpdatableRecord#refresh()
+     */
+    @Support
+    void refresh(UpdatableRecord<?>... records) throws DataAccessException, NoDataFoundException;
+
+    /**
+     * Refresh a set of {@link UpdatableRecord} instances from the database.
+     *
+     * @param records The records to refresh
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws NoDataFoundException If any of the records does not exist in the
+     *             database any longer. In that case, no record is refreshed.
+     * @see #refresh(UpdatableRecord...)
+     */
+    @Support
+    void refresh(Collection<? extends UpdatableRecord<?>> records) throws DataAccessException, NoDataFoundException;
+
     // -------------------------------------------------------------------------
     // XXX DDL Statements from existing meta data
     // -------------------------------------------------------------------------
@@ -12189,6 +12299,27 @@ public interface DSLContext extends Scope , AutoCloseable {
     @Support
     <R extends Record> Results fetchMany(ResultQuery<R> query) throws DataAccessException;
 
+    /**
+     * Execute several {@link ResultQuery} instances in the context of this
+     * <code>DSLContext</code> and return all of their results.
+     * <p>
+     * If {@link Settings#isFetchManyCombined()} is turned on, and the dialect
+     * supports it, the queries are sent to the server in a single request.
+     * Otherwise, they are executed one by one. Beware that some JDBC drivers
+     * execute a single request as an implicit transaction when auto-commit is
+     * turned on (e.g. pgjdbc in PostgreSQL), in case of which a failure of one
+     * query rolls back the effects of all previous queries.
+     *
+     * @param queries The queries to execute
+     * @return The results, one per query. This will never be
+     *         <code>null</code>.
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Queries#fetchMany()
+     */
+    @NotNull
+    @Support
+    Results fetchMany(ResultQuery<?>... queries) throws DataAccessException;
+
     /**
      * Execute a {@link ResultQuery} in the context of this <code>DSLContext</code> and return
      * a record.
@@ -13587,6 +13718,93 @@ public interface DSLContext extends Scope , AutoCloseable {
     @Support
     <R extends Record> Stream<R> fetchStream(Table<R> table, Collection<? extends Condition> conditions) throws DataAccessException;
 
+    /**
+     * Execute and return all records lazily for
+     * <code><pre>SELECT table.col1, table.col2 FROM table</pre></code>,
+     * fetching several partitions of the table in parallel.
+     * <p>
+     * This is the same as calling
+     * {@link #fetchStreamPartitioned(Table, Field, int)} with the first column
+     * of the table's {@link Table#getPrimaryKey()}.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalStateException if the table has no primary key
+     */
+    @NotNull
+    @Support
+    <R extends Record> Stream<R> fetchStreamPartitioned(Table<R> table, int partitions) throws DataAccessException;
+
+    /**
+     * Execute and return all records lazily for
+     * <code><pre>SELECT table.col1, table.col2 FROM table</pre></code>,
+     * fetching several partitions of the table in parallel.
+     * <p>
+     * The table is split into up to <code>partitions</code> disjoint ranges of
+     * the <code>key</code> column. Numeric keys are split into ranges of equal
+     * width between the key's <code>MIN()</code> and <code>MAX()</code>
+     * values. Other keys are split into ranges of equal size using
+     * {@link DSL#ntile(int)}, which is not supported in all dialects.
+     * <code>NULL</code> keys are fetched with the first partition.
+     * <p>
+     * Each partition is fetched with a separate query on a thread obtained
+     * from {@link Configuration#executorProvider()}. This requires a
+     * {@link ConnectionProvider} that provides a separate connection to each
+     * concurrent query, such as a pooled {@link javax.sql.DataSource}. The
+     * resulting {@link Stream} merges the records of all partitions in no
+     * particular order. Client code must close the {@link Stream} if it is not
+     * consumed entirely, in order to close all pending partitions.
+     * <p>
+     * The result and its contained records are attached to this
+     * {@link Configuration} by default. Use {@link Settings#isAttachRecords()}
+     * to override this behaviour.
+     *
+     * @param table The table to fetch records from.
+     * @param key The orderable column by which the table is partitioned.
+     * @param partitions The maximum number of partitions.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @NotNull
+    @Support
+    <R extends Record> Stream<R> fetchStreamPartitioned(Table<R> table, Field<?> key, int partitions) throws DataAccessException;
+
+    /**
+     * Execute and consume all records for
+     * <code><pre>SELECT table.col1, table.col2 FROM table</pre></code>,
+     * fetching several partitions of the table in parallel.
+     * <p>
+     * This is the same as calling
+     * {@link #fetchPartitioned(Table, Field, int, Consumer)} with the first
+     * column of the table's {@link Table#getPrimaryKey()}.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalStateException if the table has no primary key
+     */
+    @Support
+    <R extends Record> void fetchPartitioned(Table<R> table, int partitions, Consumer<? super Cursor<R>> handler) throws DataAccessException;
+
+    /**
+     * Execute and consume all records for
+     * <code><pre>SELECT table.col1, table.col2 FROM table</pre></code>,
+     * fetching several partitions of the table in parallel.
+     * <p>
+     * The table is partitioned as described in
+     * {@link #fetchStreamPartitioned(Table, Field, int)}. Each partition's
+     * {@link Cursor} is passed to the <code>handler</code> on the thread that
+     * fetches the partition, which means that the <code>handler</code> is
+     * invoked concurrently and must be thread safe. The cursors are closed
+     * after the <code>handler</code> returns. This method returns when all
+     * partitions have been consumed, or throws the first exception raised by
+     * any partition.
+     *
+     * @param table The table to fetch records from.
+     * @param key The orderable column by which the table is partitioned.
+     * @param partitions The maximum number of partitions.
+     * @param handler The handler consuming each partition's cursor.
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    @Support
+    <R extends Record> void fetchPartitioned(Table<R> table, Field<?> key, int partitions, Consumer<? super Cursor<R>> handler) throws DataAccessException;
+
 
     /**
      * Insert one record.
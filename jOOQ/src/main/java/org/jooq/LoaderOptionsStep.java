@@ -340,4 +340,31 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Use the database's native bulk loading facility instead of
+     * <code>INSERT</code> statements, if available.
+     * <p>
+     * Rows are streamed to the server in a CSV encoding, using
+     * <code>COPY .. FROM STDIN</code> in {@link SQLDialect#POSTGRES} (through
+     * the PostgreSQL JDBC driver's <code>CopyManager</code>), or
+     * <code>LOAD DATA LOCAL INFILE</code> in {@link SQLDialect#MYSQL} and
+     * {@link SQLDialect#MARIADB} (through the driver's
+     * <code>setLocalInfileInputStream()</code> API, which requires the driver
+     * to allow local infiles). If {@link #bulkAfter(int)} is set, the given
+     * number of rows is loaded per native bulk loading operation, otherwise,
+     * all rows are loaded in a single operation. {@link #commitEach()} and
+     * {@link #commitAfter(int)} refer to these operations.
+     * <p>
+     * The usual <code>INSERT</code> statements are used instead, if the
+     * dialect or JDBC driver do not support native bulk loading, if the data
+     * types of the loaded fields are not supported, or if any
+     * <code>onDuplicateKey</code> flag other than
+     * {@link #onDuplicateKeyError()} is set. Native bulk loading bypasses
+     * {@link ExecuteListener} lifecycle events, and errors are reported once
+     * per native bulk loading operation.
+     */
+    @NotNull
+    @Support({ MARIADB, MYSQL, POSTGRES })
+    LoaderOptionsStep<R> bulkNative();
 }
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+/**
+ * An <code>FunctionalInterface</code> that wraps pipelined code.
+ * <p>
+ * Pipelined code should not depend on any captured scope, but use the
+ * argument {@link Configuration} passed to the {@link #run(Configuration)}
+ * method to execute its queries.
+ *
+ * @author Lukas Eder
+ * @see DSLContext#pipelined(PipelinedRunnable)
+ */
+@FunctionalInterface
+public interface PipelinedRunnable {
+
+    /**
+     * Run the pipelined code.
+     *
+     * @param configuration The <code>Configuration</code> in whose context
+     *            update queries are pipelined.
+     * @throws Exception Any exception, which discards all queries that have
+     *             not yet been flushed.
+     */
+    void run(Configuration configuration) throws Exception;
+}
@@ -40,6 +40,7 @@ package org.jooq;
 import java.sql.Statement;
 import java.util.stream.Stream;
 
+import org.jooq.conf.Settings;
 import org.jooq.exception.DetachedException;
 import org.jooq.impl.DSL;
 
@@ -102,6 +103,17 @@ public interface Queries extends QueryPart, Attachable, Iterable<Query> {
      * <p>
      * This is a convenience method for executing individual {@link #queries()}.
      * <p>
+     * If {@link Settings#isFetchManyCombined()} is turned on, and the dialect
+     * supports it, all queries are sent to the server in a single
+     * multi-statement request instead, producing one update count or
+     * {@link Result} per query. The results of {@link ResultQuery} instances
+     * are read using their projections and record types. Beware that some
+     * JDBC drivers execute such a request as a single implicit transaction
+     * when auto-commit is turned on (e.g. pgjdbc in PostgreSQL), in case of
+     * which a failure of one query rolls back the effects of all previous
+     * queries of the same request, unlike when executing the queries
+     * one-by-one.
+     * <p>
      * If this {@link Queries} reference is attached to a {@link Configuration},
      * then that <code>configuration</code> is used through
      * {@link DSLContext#fetchMany(ResultQuery)} or
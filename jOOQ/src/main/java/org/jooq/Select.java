@@ -61,6 +61,7 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DSL;
@@ -204,4 +205,53 @@ public interface Select<R extends Record> extends ResultQuery<R>, TableLike<R>,
      */
     @Deprecated
     int fetchCount() throws DataAccessException;
+
+    /**
+     * Execute this query page by page using keyset pagination, and return all
+     * records lazily.
+     * <p>
+     * This is the same as calling {@link #fetchStreamPaged(int, boolean)}
+     * without prefetching.
+     *
+     * @param pageSize The number of records fetched per page.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalStateException if this query has no
+     *             <code>ORDER BY</code> clause, or if it has a
+     *             <code>LIMIT</code> or <code>OFFSET</code> clause.
+     * @see #fetchStreamPaged(int, boolean)
+     */
+    @NotNull
+    Stream<R> fetchStreamPaged(int pageSize) throws DataAccessException;
+
+    /**
+     * Execute this query page by page using keyset pagination, and return all
+     * records lazily.
+     * <p>
+     * Each page is fetched eagerly with a separate, short query, which applies
+     * the {@link SelectSeekStep1#seek(Object)} predicate derived from the
+     * <code>ORDER BY</code> columns of the last record of the previous page,
+     * and a <code>LIMIT</code> of <code>pageSize</code>. Unlike
+     * {@link #fetchLazy()}, no JDBC resources are kept open between pages.
+     * <p>
+     * All <code>ORDER BY</code> columns must be contained in the projection,
+     * and together, they must uniquely identify a record, and be non-nullable,
+     * otherwise records may be skipped. If a <code>SEEK</code> clause is
+     * already present, the first page is fetched using its values.
+     * <p>
+     * This query is modified temporarily while a page is being fetched, and
+     * must not be executed concurrently by client code while the resulting
+     * {@link Stream} is being consumed.
+     *
+     * @param pageSize The number of records fetched per page.
+     * @param prefetch Whether the next page should be fetched asynchronously
+     *            using an {@link java.util.concurrent.Executor} obtained from
+     *            {@link Configuration#executorProvider()}, while the records of
+     *            the current page are being consumed.
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws IllegalStateException if this query has no
+     *             <code>ORDER BY</code> clause, or if it has a
+     *             <code>LIMIT</code> or <code>OFFSET</code> clause.
+     */
+    @NotNull
+    Stream<R> fetchStreamPaged(int pageSize, boolean prefetch) throws DataAccessException;
 }
@@ -48,6 +48,7 @@ public final class TXTFormat {
     public static final TXTFormat DEFAULT = new TXTFormat();
 
     final int                     maxRows;
+    final int                     sampleRows;
     final int                     minColWidth;
     final int                     maxColWidth;
     final boolean                 horizontalTableBorder;
@@ -60,6 +61,7 @@ public final class TXTFormat {
     public TXTFormat() {
         this(
             Integer.MAX_VALUE,
+            50,
             4,
             Integer.MAX_VALUE,
             true,
@@ -73,6 +75,7 @@ public final class TXTFormat {
 
     private TXTFormat(
         int maxRows,
+        int sampleRows,
         int minColWidth,
         int maxColWidth,
         boolean horizontalTableBorder,
@@ -83,6 +86,7 @@ public final class TXTFormat {
         boolean intersectLines
     ) {
         this.maxRows = maxRows;
+        this.sampleRows = sampleRows;
         this.minColWidth = minColWidth;
         this.maxColWidth = maxColWidth;
         this.horizontalTableBorder = horizontalTableBorder;
@@ -99,6 +103,7 @@ public final class TXTFormat {
     public TXTFormat maxRows(int newMaxRows) {
         return new TXTFormat(
             newMaxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             horizontalTableBorder,
@@ -117,12 +122,43 @@ public final class TXTFormat {
         return maxRows;
     }
 
+    /**
+     * The number of rows that are used to determine column widths and decimal
+     * places, defaulting to 50.
+     * <p>
+     * Rows beyond this sample are written as they are read, e.g. from a
+     * {@link Cursor}, without being buffered.
+     */
+    public TXTFormat sampleRows(int newSampleRows) {
+        return new TXTFormat(
+            maxRows,
+            newSampleRows,
+            minColWidth,
+            maxColWidth,
+            horizontalTableBorder,
+            horizontalHeaderBorder,
+            horizontalCellBorder,
+            verticalTableBorder,
+            verticalCellBorder,
+            intersectLines
+        );
+    }
+
+    /**
+     * The number of rows that are used to determine column widths and decimal
+     * places, defaulting to 50.
+     */
+    public int sampleRows() {
+        return sampleRows;
+    }
+
     /**
      * The minimum column width, defaulting to 4
      */
     public TXTFormat minColWidth(int newMinColWidth) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             newMinColWidth,
             maxColWidth,
             horizontalTableBorder,
@@ -148,6 +184,7 @@ public final class TXTFormat {
     public TXTFormat maxColWidth(int newMaxColWidth) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             newMaxColWidth,
             horizontalTableBorder,
@@ -173,6 +210,7 @@ public final class TXTFormat {
     public TXTFormat horizontalTableBorder(boolean newHorizontalTableBorder) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             newHorizontalTableBorder,
@@ -199,6 +237,7 @@ public final class TXTFormat {
     public TXTFormat horizontalHeaderBorder(boolean newHorizontalHeaderBorder) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             horizontalTableBorder,
@@ -225,6 +264,7 @@ public final class TXTFormat {
     public TXTFormat horizontalCellBorder(boolean newHorizontalCellBorder) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             horizontalTableBorder,
@@ -251,6 +291,7 @@ public final class TXTFormat {
     public TXTFormat verticalTableBorder(boolean newVerticalTableBorder) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             horizontalTableBorder,
@@ -277,6 +318,7 @@ public final class TXTFormat {
     public TXTFormat verticalCellBorder(boolean newVerticalCellBorder) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             horizontalTableBorder,
@@ -303,6 +345,7 @@ public final class TXTFormat {
     public TXTFormat intersectLines(boolean newIntersectLines) {
         return new TXTFormat(
             maxRows,
+            sampleRows,
             minColWidth,
             maxColWidth,
             horizontalTableBorder,
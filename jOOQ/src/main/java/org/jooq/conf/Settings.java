@@ -85,6 +85,8 @@ public class Settings
     protected Boolean renderOutputForSQLServerReturningClause = true;
     @XmlElement(defaultValue = "false")
     protected Boolean renderParenthesisAroundSetOperationQueries = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean renderRecycleBuffers = false;
     @XmlElement(defaultValue = "true")
     protected Boolean fetchTriggerValuesAfterSQLServerOutput = true;
     @XmlElement(defaultValue = "false")
@@ -158,6 +160,8 @@ public class Settings
     protected Boolean reflectionCaching = true;
     @XmlElement(defaultValue = "true")
     protected Boolean cacheRecordMappers = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheMetaDataFields = false;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
     @XmlElement(defaultValue = "THROW_ALL")
@@ -165,6 +169,10 @@ public class Settings
     protected ThrowExceptions throwExceptions = ThrowExceptions.THROW_ALL;
     @XmlElement(defaultValue = "true")
     protected Boolean fetchWarnings = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchDeduplicateStrings = false;
+    @XmlElement(defaultValue = "0")
+    protected Integer fetchSpillThreshold = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchServerOutputSize = 0;
     @XmlElement(defaultValue = "true")
@@ -173,6 +181,12 @@ public class Settings
     protected Boolean returnAllOnUpdatableRecord = false;
     @XmlElement(defaultValue = "true")
     protected Boolean returnRecordToPojo = true;
+    @XmlElement(defaultValue = "false")
+    protected Boolean batchInsertMultiRow = false;
+    @XmlElement(defaultValue = "1000")
+    protected Integer pipelineBatchSize = 1000;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchManyCombined = false;
     @XmlElement(defaultValue = "true")
     protected Boolean mapJPAAnnotations = true;
     @XmlElement(defaultValue = "false")
@@ -188,6 +202,10 @@ public class Settings
     protected Integer maxRows = 0;
     @XmlElement(defaultValue = "0")
     protected Integer fetchSize = 0;
+    @XmlElement(defaultValue = "false")
+    protected Boolean adaptiveFetchSize = false;
+    @XmlElement(defaultValue = "4194304")
+    protected Integer adaptiveFetchSizeMemoryBudget = 4194304;
     @XmlElement(defaultValue = "true")
     protected Boolean debugInfoOnStackTrace = true;
     @XmlElement(defaultValue = "false")
@@ -727,6 +745,32 @@ public class Settings
         this.renderParenthesisAroundSetOperationQueries = value;
     }
 
+    /**
+     * Whether SQL rendering for query execution should recycle its character buffers through a small per-thread pool,
+     * instead of allocating a new buffer for each execution. Buffers beyond a size cap are not recycled. This reduces
+     * short-lived garbage on hot code paths, at the cost of retaining a few buffers per thread that executes queries.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isRenderRecycleBuffers() {
+        return renderRecycleBuffers;
+    }
+
+    /**
+     * Sets the value of the renderRecycleBuffers property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setRenderRecycleBuffers(Boolean value) {
+        this.renderRecycleBuffers = value;
+    }
+
     /**
      * Fetch trigger values after SQL Server <code>OUTPUT</code> clause.
      * <p>
@@ -1365,6 +1409,30 @@ public class Settings
         this.cacheRecordMappers = value;
     }
 
+    /**
+     * Whether the fields derived from JDBC ResultSetMetaData of plain SQL queries should be cached in the Configuration, keyed by the SQL string and a cheap column label and type signature. Only use this with a bounded set of SQL strings.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheMetaDataFields() {
+        return cacheMetaDataFields;
+    }
+
+    /**
+     * Sets the value of the cacheMetaDataFields property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheMetaDataFields(Boolean value) {
+        this.cacheMetaDataFields = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -1429,6 +1497,56 @@ public class Settings
         this.fetchWarnings = value;
     }
 
+    /**
+     * Whether fetched String values of low-cardinality columns should be deduplicated through a bounded pool that is local
+     * to each query execution. Cardinality is estimated by sampling the first fetched rows. This can drastically reduce
+     * heap consumption of large results containing repetitive values, without the costs of String.intern().
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchDeduplicateStrings() {
+        return fetchDeduplicateStrings;
+    }
+
+    /**
+     * Sets the value of the fetchDeduplicateStrings property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchDeduplicateStrings(Boolean value) {
+        this.fetchDeduplicateStrings = value;
+    }
+
+    /**
+     * The number of records that are kept in memory by a fetched Result, before further records are spilled to a temporary file on disk. 0 (the default) turns off spilling.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getFetchSpillThreshold() {
+        return fetchSpillThreshold;
+    }
+
+    /**
+     * Sets the value of the fetchSpillThreshold property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setFetchSpillThreshold(Integer value) {
+        this.fetchSpillThreshold = value;
+    }
+
     /**
      * Whether server output should be fetched after each query execution.
      * 
@@ -1522,6 +1640,80 @@ public class Settings
         this.returnRecordToPojo = value;
     }
 
+    /**
+     * Whether batchInsert() and DAO.insert(Collection) should group records into multi-row INSERT .. VALUES statements
+     * (including a RETURNING clause, where supported), rather than executing one statement per record. The number of rows
+     * per statement is chosen according to the dialect's bind value limit, or <inlineThreshold/>, if set.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isBatchInsertMultiRow() {
+        return batchInsertMultiRow;
+    }
+
+    /**
+     * Sets the value of the batchInsertMultiRow property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setBatchInsertMultiRow(Boolean value) {
+        this.batchInsertMultiRow = value;
+    }
+
+    /**
+     * The maximum number of queued queries in a pipelined scope (see DSLContext.pipelined(PipelinedRunnable)), after which the queue is flushed. Values of 0 or less mean the queue is flushed only at the end of the scope, or before executing any query that cannot be pipelined.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getPipelineBatchSize() {
+        return pipelineBatchSize;
+    }
+
+    /**
+     * Sets the value of the pipelineBatchSize property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setPipelineBatchSize(Integer value) {
+        this.pipelineBatchSize = value;
+    }
+
+    /**
+     * Whether Queries.fetchMany() and DSLContext.fetchMany(ResultQuery...) should send all queries to the server in a single multi-statement request, in dialects that support reading several update counts and result sets from one statement. This requires the JDBC driver to accept multiple statements, e.g. allowMultiQueries=true in MySQL. Beware that some drivers execute such a request as a single implicit transaction when auto-commit is turned on (e.g. pgjdbc in PostgreSQL), in case of which a failure of one query rolls back the effects of all previous queries of the same request.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchManyCombined() {
+        return fetchManyCombined;
+    }
+
+    /**
+     * Sets the value of the fetchManyCombined property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchManyCombined(Boolean value) {
+        this.fetchManyCombined = value;
+    }
+
     /**
      * Whether JPA annotations should be considered by the DefaultRecordMapper.
      * 
@@ -1666,6 +1858,60 @@ public class Settings
         this.fetchSize = value;
     }
 
+    /**
+     * Whether the JDBC fetchSize should be chosen and adjusted adaptively for
+     * jOOQ queries, for which no specific fetchSize value was specified.
+     * <p>
+     * The initial fetch size is estimated from the projected data types and the
+     * adaptiveFetchSizeMemoryBudget. It is then adjusted between fetches based
+     * on the observed row sizes and throughput.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isAdaptiveFetchSize() {
+        return adaptiveFetchSize;
+    }
+
+    /**
+     * Sets the value of the adaptiveFetchSize property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setAdaptiveFetchSize(Boolean value) {
+        this.adaptiveFetchSize = value;
+    }
+
+    /**
+     * The approximate amount of memory in bytes that a single fetch of rows
+     * may use, when adaptiveFetchSize is enabled.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getAdaptiveFetchSizeMemoryBudget() {
+        return adaptiveFetchSizeMemoryBudget;
+    }
+
+    /**
+     * Sets the value of the adaptiveFetchSizeMemoryBudget property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setAdaptiveFetchSizeMemoryBudget(Integer value) {
+        this.adaptiveFetchSizeMemoryBudget = value;
+    }
+
     /**
      * [#5570] Whether exception stack traces should be enhanced with additional debug information.
      * 
@@ -2362,6 +2608,11 @@ public class Settings
         return this;
     }
 
+    public Settings withRenderRecycleBuffers(Boolean value) {
+        setRenderRecycleBuffers(value);
+        return this;
+    }
+
     public Settings withFetchTriggerValuesAfterSQLServerOutput(Boolean value) {
         setFetchTriggerValuesAfterSQLServerOutput(value);
         return this;
@@ -2589,6 +2840,11 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheMetaDataFields(Boolean value) {
+        setCacheMetaDataFields(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
@@ -2608,6 +2864,16 @@ public class Settings
         return this;
     }
 
+    public Settings withFetchDeduplicateStrings(Boolean value) {
+        setFetchDeduplicateStrings(value);
+        return this;
+    }
+
+    public Settings withFetchSpillThreshold(Integer value) {
+        setFetchSpillThreshold(value);
+        return this;
+    }
+
     /**
      * Whether server output should be fetched after each query execution.
      * 
@@ -2632,6 +2898,21 @@ public class Settings
         return this;
     }
 
+    public Settings withBatchInsertMultiRow(Boolean value) {
+        setBatchInsertMultiRow(value);
+        return this;
+    }
+
+    public Settings withPipelineBatchSize(Integer value) {
+        setPipelineBatchSize(value);
+        return this;
+    }
+
+    public Settings withFetchManyCombined(Boolean value) {
+        setFetchManyCombined(value);
+        return this;
+    }
+
     public Settings withMapJPAAnnotations(Boolean value) {
         setMapJPAAnnotations(value);
         return this;
@@ -2687,6 +2968,16 @@ public class Settings
         return this;
     }
 
+    public Settings withAdaptiveFetchSize(Boolean value) {
+        setAdaptiveFetchSize(value);
+        return this;
+    }
+
+    public Settings withAdaptiveFetchSizeMemoryBudget(Integer value) {
+        setAdaptiveFetchSizeMemoryBudget(value);
+        return this;
+    }
+
     public Settings withDebugInfoOnStackTrace(Boolean value) {
         setDebugInfoOnStackTrace(value);
         return this;
@@ -2945,6 +3236,7 @@ public class Settings
         builder.append("renderOrderByRownumberForEmulatedPagination", renderOrderByRownumberForEmulatedPagination);
         builder.append("renderOutputForSQLServerReturningClause", renderOutputForSQLServerReturningClause);
         builder.append("renderParenthesisAroundSetOperationQueries", renderParenthesisAroundSetOperationQueries);
+        builder.append("renderRecycleBuffers", renderRecycleBuffers);
         builder.append("fetchTriggerValuesAfterSQLServerOutput", fetchTriggerValuesAfterSQLServerOutput);
         builder.append("transformAnsiJoinToTableLists", transformAnsiJoinToTableLists);
         builder.append("transformTableListsToAnsiJoin", transformTableListsToAnsiJoin);
@@ -2974,13 +3266,19 @@ public class Settings
         builder.append("updatablePrimaryKeys", updatablePrimaryKeys);
         builder.append("reflectionCaching", reflectionCaching);
         builder.append("cacheRecordMappers", cacheRecordMappers);
+        builder.append("cacheMetaDataFields", cacheMetaDataFields);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
+        builder.append("fetchDeduplicateStrings", fetchDeduplicateStrings);
+        builder.append("fetchSpillThreshold", fetchSpillThreshold);
         builder.append("fetchServerOutputSize", fetchServerOutputSize);
         builder.append("returnIdentityOnUpdatableRecord", returnIdentityOnUpdatableRecord);
         builder.append("returnAllOnUpdatableRecord", returnAllOnUpdatableRecord);
         builder.append("returnRecordToPojo", returnRecordToPojo);
+        builder.append("batchInsertMultiRow", batchInsertMultiRow);
+        builder.append("pipelineBatchSize", pipelineBatchSize);
+        builder.append("fetchManyCombined", fetchManyCombined);
         builder.append("mapJPAAnnotations", mapJPAAnnotations);
         builder.append("mapConstructorParameterNames", mapConstructorParameterNames);
         builder.append("mapConstructorParameterNamesInKotlin", mapConstructorParameterNamesInKotlin);
@@ -2988,6 +3286,8 @@ public class Settings
         builder.append("queryTimeout", queryTimeout);
         builder.append("maxRows", maxRows);
         builder.append("fetchSize", fetchSize);
+        builder.append("adaptiveFetchSize", adaptiveFetchSize);
+        builder.append("adaptiveFetchSizeMemoryBudget", adaptiveFetchSizeMemoryBudget);
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
@@ -3217,6 +3517,15 @@ public class Settings
                 return false;
             }
         }
+        if (renderRecycleBuffers == null) {
+            if (other.renderRecycleBuffers!= null) {
+                return false;
+            }
+        } else {
+            if (!renderRecycleBuffers.equals(other.renderRecycleBuffers)) {
+                return false;
+            }
+        }
         if (fetchTriggerValuesAfterSQLServerOutput == null) {
             if (other.fetchTriggerValuesAfterSQLServerOutput!= null) {
                 return false;
@@ -3478,6 +3787,15 @@ public class Settings
                 return false;
             }
         }
+        if (cacheMetaDataFields == null) {
+            if (other.cacheMetaDataFields!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheMetaDataFields.equals(other.cacheMetaDataFields)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -3505,6 +3823,24 @@ public class Settings
                 return false;
             }
         }
+        if (fetchDeduplicateStrings == null) {
+            if (other.fetchDeduplicateStrings!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchDeduplicateStrings.equals(other.fetchDeduplicateStrings)) {
+                return false;
+            }
+        }
+        if (fetchSpillThreshold == null) {
+            if (other.fetchSpillThreshold!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchSpillThreshold.equals(other.fetchSpillThreshold)) {
+                return false;
+            }
+        }
         if (fetchServerOutputSize == null) {
             if (other.fetchServerOutputSize!= null) {
                 return false;
@@ -3541,6 +3877,33 @@ public class Settings
                 return false;
             }
         }
+        if (batchInsertMultiRow == null) {
+            if (other.batchInsertMultiRow!= null) {
+                return false;
+            }
+        } else {
+            if (!batchInsertMultiRow.equals(other.batchInsertMultiRow)) {
+                return false;
+            }
+        }
+        if (pipelineBatchSize == null) {
+            if (other.pipelineBatchSize!= null) {
+                return false;
+            }
+        } else {
+            if (!pipelineBatchSize.equals(other.pipelineBatchSize)) {
+                return false;
+            }
+        }
+        if (fetchManyCombined == null) {
+            if (other.fetchManyCombined!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchManyCombined.equals(other.fetchManyCombined)) {
+                return false;
+            }
+        }
         if (mapJPAAnnotations == null) {
             if (other.mapJPAAnnotations!= null) {
                 return false;
@@ -3604,6 +3967,24 @@ public class Settings
                 return false;
             }
         }
+        if (adaptiveFetchSize == null) {
+            if (other.adaptiveFetchSize!= null) {
+                return false;
+            }
+        } else {
+            if (!adaptiveFetchSize.equals(other.adaptiveFetchSize)) {
+                return false;
+            }
+        }
+        if (adaptiveFetchSizeMemoryBudget == null) {
+            if (other.adaptiveFetchSizeMemoryBudget!= null) {
+                return false;
+            }
+        } else {
+            if (!adaptiveFetchSizeMemoryBudget.equals(other.adaptiveFetchSizeMemoryBudget)) {
+                return false;
+            }
+        }
         if (debugInfoOnStackTrace == null) {
             if (other.debugInfoOnStackTrace!= null) {
                 return false;
@@ -3883,6 +4264,7 @@ public class Settings
         result = ((prime*result)+((renderOrderByRownumberForEmulatedPagination == null)? 0 :renderOrderByRownumberForEmulatedPagination.hashCode()));
         result = ((prime*result)+((renderOutputForSQLServerReturningClause == null)? 0 :renderOutputForSQLServerReturningClause.hashCode()));
         result = ((prime*result)+((renderParenthesisAroundSetOperationQueries == null)? 0 :renderParenthesisAroundSetOperationQueries.hashCode()));
+        result = ((prime*result)+((renderRecycleBuffers == null)? 0 :renderRecycleBuffers.hashCode()));
         result = ((prime*result)+((fetchTriggerValuesAfterSQLServerOutput == null)? 0 :fetchTriggerValuesAfterSQLServerOutput.hashCode()));
         result = ((prime*result)+((transformAnsiJoinToTableLists == null)? 0 :transformAnsiJoinToTableLists.hashCode()));
         result = ((prime*result)+((transformTableListsToAnsiJoin == null)? 0 :transformTableListsToAnsiJoin.hashCode()));
@@ -3912,13 +4294,19 @@ public class Settings
         result = ((prime*result)+((updatablePrimaryKeys == null)? 0 :updatablePrimaryKeys.hashCode()));
         result = ((prime*result)+((reflectionCaching == null)? 0 :reflectionCaching.hashCode()));
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
+        result = ((prime*result)+((cacheMetaDataFields == null)? 0 :cacheMetaDataFields.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
+        result = ((prime*result)+((fetchDeduplicateStrings == null)? 0 :fetchDeduplicateStrings.hashCode()));
+        result = ((prime*result)+((fetchSpillThreshold == null)? 0 :fetchSpillThreshold.hashCode()));
         result = ((prime*result)+((fetchServerOutputSize == null)? 0 :fetchServerOutputSize.hashCode()));
         result = ((prime*result)+((returnIdentityOnUpdatableRecord == null)? 0 :returnIdentityOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnAllOnUpdatableRecord == null)? 0 :returnAllOnUpdatableRecord.hashCode()));
         result = ((prime*result)+((returnRecordToPojo == null)? 0 :returnRecordToPojo.hashCode()));
+        result = ((prime*result)+((batchInsertMultiRow == null)? 0 :batchInsertMultiRow.hashCode()));
+        result = ((prime*result)+((pipelineBatchSize == null)? 0 :pipelineBatchSize.hashCode()));
+        result = ((prime*result)+((fetchManyCombined == null)? 0 :fetchManyCombined.hashCode()));
         result = ((prime*result)+((mapJPAAnnotations == null)? 0 :mapJPAAnnotations.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNames == null)? 0 :mapConstructorParameterNames.hashCode()));
         result = ((prime*result)+((mapConstructorParameterNamesInKotlin == null)? 0 :mapConstructorParameterNamesInKotlin.hashCode()));
@@ -3926,6 +4314,8 @@ public class Settings
         result = ((prime*result)+((queryTimeout == null)? 0 :queryTimeout.hashCode()));
         result = ((prime*result)+((maxRows == null)? 0 :maxRows.hashCode()));
         result = ((prime*result)+((fetchSize == null)? 0 :fetchSize.hashCode()));
+        result = ((prime*result)+((adaptiveFetchSize == null)? 0 :adaptiveFetchSize.hashCode()));
+        result = ((prime*result)+((adaptiveFetchSizeMemoryBudget == null)? 0 :adaptiveFetchSizeMemoryBudget.hashCode()));
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
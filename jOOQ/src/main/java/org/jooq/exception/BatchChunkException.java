@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.exception;
+
+import java.sql.Statement;
+
+import org.jooq.Batch;
+
+/**
+ * An error occurred while executing a chunk of a chunked {@link Batch}
+ * execution.
+ * <p>
+ * Chunks that have been executed before the failure are not rolled back by
+ * jOOQ. Their results are reported in {@link #getResult()}, whereas the
+ * results of the failed chunk and of all chunks that have not been executed
+ * are reported as {@link Statement#EXECUTE_FAILED}.
+ * <p>
+ * If the failure occurred in the {@link org.jooq.BatchChunkListener} rather
+ * than in the chunk's execution, {@link #isListenerFailure()} is
+ * <code>true</code>. In that case, the chunk has been executed successfully,
+ * and its results are reported in {@link #getResult()}, so it must not be
+ * retried.
+ *
+ * @see Batch#executeAsync(java.util.concurrent.Executor, int, int,
+ *      org.jooq.BatchChunkListener)
+ * @author Lukas Eder
+ */
+public class BatchChunkException extends DataAccessException {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = 4390713062375307385L;
+
+    private final int         offset;
+    private final int         count;
+    private final int[]       result;
+    private final boolean     listenerFailure;
+
+    /**
+     * Constructor for BatchChunkException.
+     *
+     * @param message the detail message
+     * @param cause the root cause
+     * @param offset the offset of the failed chunk
+     * @param count the size of the failed chunk
+     * @param result the partial batch result
+     */
+    public BatchChunkException(String message, Throwable cause, int offset, int count, int[] result) {
+        this(message, cause, offset, count, result, false);
+    }
+
+    /**
+     * Constructor for BatchChunkException.
+     *
+     * @param message the detail message
+     * @param cause the root cause
+     * @param offset the offset of the failed chunk
+     * @param count the size of the failed chunk
+     * @param result the partial batch result
+     * @param listenerFailure whether the failure occurred in the
+     *            {@link org.jooq.BatchChunkListener}, after the chunk had been
+     *            executed successfully
+     */
+    public BatchChunkException(String message, Throwable cause, int offset, int count, int[] result, boolean listenerFailure) {
+        super(message, cause);
+
+        this.offset = offset;
+        this.count = count;
+        this.result = result;
+        this.listenerFailure = listenerFailure;
+    }
+
+    /**
+     * The offset of the failed chunk's first query (or bind value set) in the
+     * batch.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * The number of queries (or bind value sets) in the failed chunk.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * The partial batch result, containing the results of all successfully
+     * executed chunks, and {@link Statement#EXECUTE_FAILED} for all other
+     * queries (or bind value sets).
+     */
+    public int[] getResult() {
+        return result;
+    }
+
+    /**
+     * Whether the failure occurred in the {@link org.jooq.BatchChunkListener},
+     * after the chunk at {@link #getOffset()} had been executed successfully.
+     */
+    public boolean isListenerFailure() {
+        return listenerFailure;
+    }
+}
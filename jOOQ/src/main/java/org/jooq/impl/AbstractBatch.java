@@ -39,13 +39,18 @@ package org.jooq.impl;
 
 import static org.jooq.impl.Tools.blocking;
 
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jooq.Batch;
+import org.jooq.BatchChunkListener;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.exception.BatchChunkException;
 
 /**
  * @author Lukas Eder
@@ -60,8 +65,10 @@ abstract class AbstractBatch implements Batch {
     final DSLContext          dsl;
 
     AbstractBatch(Configuration configuration) {
-        this.configuration = configuration;
-        this.dsl = DSL.using(configuration);
+
+        // Batches are not queued in a pipelined scope, they're already batched
+        this.configuration = Pipeline.unpipelined(configuration);
+        this.dsl = DSL.using(this.configuration);
     }
 
 
@@ -76,6 +83,142 @@ abstract class AbstractBatch implements Batch {
         return ExecutorProviderCompletionStage.of(CompletableFuture.supplyAsync(blocking(this::execute), executor), () -> executor);
     }
 
+    @Override
+    public final CompletionStage<int[]> executeAsync(int chunkSize, BatchChunkListener listener) {
+        return executeAsync(configuration.executorProvider().provide(), chunkSize, 1, listener);
+    }
+
+    @Override
+    public final CompletionStage<int[]> executeAsync(Executor executor, int chunkSize, int parallelism, BatchChunkListener listener) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+
+        int size = size();
+        Chunks chunks = new Chunks(size <= chunkSize ? 1 : (size + chunkSize - 1) / chunkSize, chunkSize, listener);
+
+        // Chunks are distributed among lanes, each lane executing its chunks
+        // one after the other
+        CompletableFuture<?>[] lanes = new CompletableFuture[Math.min(parallelism, chunks.results.length)];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+
+            for (int i = lane; i < chunks.results.length; i += lanes.length) {
+                int chunk = i;
+                future = future.thenAcceptAsync(v -> blocking(() -> chunks.execute(chunk)).get(), executor);
+            }
+
+            lanes[lane] = future;
+        }
+
+        return ExecutorProviderCompletionStage.of(CompletableFuture.allOf(lanes).thenApply(v -> chunks.result()), () -> executor);
+    }
+
+    /**
+     * A batch containing only the queries (or bind value sets) at
+     * <code>[offset .. offset + count)</code> of this batch.
+     */
+    abstract AbstractBatch chunk(int offset, int count);
+
+    /**
+     * The state of a chunked batch execution.
+     */
+    private final class Chunks {
+        final int[][]                results;
+        final int                    chunkSize;
+        final BatchChunkListener     listener;
+        final AtomicInteger          failed;
+        volatile RuntimeException    cause;
+        volatile boolean             listenerFailed;
+
+        Chunks(int chunks, int chunkSize, BatchChunkListener listener) {
+            this.results = new int[chunks][];
+            this.chunkSize = chunkSize;
+            this.listener = listener;
+            this.failed = new AtomicInteger(-1);
+        }
+
+        final int offset(int chunk) {
+            return chunk * chunkSize;
+        }
+
+        final int count(int chunk) {
+            return results.length == 1 ? size() : Math.min(chunkSize, size() - offset(chunk));
+        }
+
+        final Void execute(int chunk) {
+
+            // Don't start any further chunks once a chunk has failed
+            if (failed.get() >= 0)
+                return null;
+
+            int[] result;
+
+            try {
+                result = (results.length == 1 ? AbstractBatch.this : chunk(offset(chunk), count(chunk))).execute();
+                results[chunk] = result;
+            }
+            catch (RuntimeException e) {
+                fail(chunk, e, false);
+                return null;
+            }
+
+            // The chunk has been executed, so a listener failure must not be
+            // reported as a chunk failure
+            if (listener != null) {
+                try {
+                    listener.chunkExecuted(offset(chunk), count(chunk), result);
+                }
+                catch (RuntimeException e) {
+                    fail(chunk, e, true);
+                }
+            }
+
+            return null;
+        }
+
+        private final void fail(int chunk, RuntimeException e, boolean inListener) {
+            if (failed.compareAndSet(-1, chunk)) {
+                cause = e;
+                listenerFailed = inListener;
+            }
+        }
+
+        final int[] result() {
+            int failedChunk = failed.get();
+            int length = 0;
+
+            for (int i = 0; i < results.length; i++)
+                length += results[i] != null ? results[i].length : count(i);
+
+            int[] result = new int[length];
+            for (int i = 0, j = 0; i < results.length; i++) {
+                if (results[i] != null) {
+                    System.arraycopy(results[i], 0, result, j, results[i].length);
+                    j += results[i].length;
+                }
+                else {
+                    Arrays.fill(result, j, j + count(i), Statement.EXECUTE_FAILED);
+                    j += count(i);
+                }
+            }
+
+            if (failedChunk >= 0)
+                throw new BatchChunkException(
+                    (listenerFailed ? "Error in BatchChunkListener after executing batch chunk at offset " : "Error executing batch chunk at offset ")
+                        + offset(failedChunk) + ": " + cause.getMessage(),
+                    cause,
+                    offset(failedChunk),
+                    count(failedChunk),
+                    result,
+                    listenerFailed
+                );
+
+            return result;
+        }
+    }
+
 
 
 }
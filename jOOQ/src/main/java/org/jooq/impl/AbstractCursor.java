@@ -46,7 +46,6 @@ import static org.jooq.impl.DSL.insertInto;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.table;
 import static org.jooq.tools.StringUtils.abbreviate;
-import static org.jooq.tools.StringUtils.leftPad;
 import static org.jooq.tools.StringUtils.rightPad;
 
 import java.io.Writer;
@@ -55,7 +54,6 @@ import java.sql.Timestamp;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
@@ -217,90 +215,66 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
             final int NUM_COL_MAX_WIDTH = format.maxColWidth() == Integer.MAX_VALUE ? Integer.MAX_VALUE : 2 * format.maxColWidth();
 
             // The max number of records that will be considered for formatting purposes
-            final int MAX_RECORDS = min(50, format.maxRows());
-            final Deque<R> buffer = new ArrayDeque<>();
+            final int MAX_RECORDS = min(format.sampleRows(), format.maxRows());
+            final int size = fields.fields.length;
+
+            // Buffer some rows for formatting purposes. Only their formatted
+            // values are kept, such that each value is formatted only once
+            final Deque<String[]> buffer = new ArrayDeque<>();
             final Iterator<R> it = iterator();
 
-            // Buffer some rows for formatting purposes
             for (int i = 0; i < MAX_RECORDS && it.hasNext(); i++)
-                buffer.offer(it.next());
-
-            // Get max decimal places for numeric type columns
-            final int[] decimalPlaces = new int[fields.fields.length];
-            final int[] widths = new int[fields.fields.length];
-
-            for (int index = 0; index < fields.fields.length; index++) {
-                if (Number.class.isAssignableFrom(fields.fields[index].getType())) {
-                    List<Integer> decimalPlacesList = new ArrayList<>(1 + buffer.size());
-
-                    // Initialize
-                    decimalPlacesList.add(0);
-
-                    // Collect all decimal places for the column values
-                    for (R record : buffer)
-                        decimalPlacesList.add(decimalPlaces(format0(record.get(index), record.changed(index), true)));
+                buffer.offer(format0(it.next(), new String[size]));
 
-                    // Find max
-                    decimalPlaces[index] = Collections.max(decimalPlacesList);
-                }
-            }
-
-            // Get max column widths
-            int colMaxWidth;
-            for (int index = 0; index < fields.fields.length; index++) {
+            final boolean[] isNumCol = new boolean[size];
+            final int[] decimalPlaces = new int[size];
+            final int[] widths = new int[size];
 
-                // Is number column?
-                boolean isNumCol = Number.class.isAssignableFrom(fields.fields[index].getType());
+            for (int index = 0; index < size; index++) {
+                isNumCol[index] = Number.class.isAssignableFrom(fields.fields[index].getType());
 
-                colMaxWidth = isNumCol ? NUM_COL_MAX_WIDTH : format.maxColWidth();
+                // Get max decimal places for numeric type columns
+                if (isNumCol[index])
+                    for (String[] values : buffer)
+                        decimalPlaces[index] = max(decimalPlaces[index], decimalPlaces(values[index]));
 
-                // Collect all widths for the column
-                List<Integer> widthList = new ArrayList<>(1 + buffer.size());
+                int colMaxWidth = isNumCol[index] ? NUM_COL_MAX_WIDTH : format.maxColWidth();
 
-                // Add column name width first
-                widthList.add(min(colMaxWidth, max(format.minColWidth(), fields.fields[index].getName().length())));
+                // Get max column widths, starting with the column name width
+                widths[index] = min(colMaxWidth, max(format.minColWidth(), fields.fields[index].getName().length()));
 
-                // Add column values width
-                for (R record : buffer) {
-                    String value = format0(record.get(index), record.changed(index), true);
+                for (String[] values : buffer) {
+                    String value = values[index];
 
                     // Align number values before width is calculated
-                    if (isNumCol)
+                    if (isNumCol[index])
                         value = alignNumberValue(decimalPlaces[index], value);
 
-                    widthList.add(min(colMaxWidth, value.length()));
+                    widths[index] = max(widths[index], min(colMaxWidth, value.length()));
                 }
-
-                // Find max
-                widths[index] = Collections.max(widthList);
             }
 
             // Begin the writing
             // ---------------------------------------------------------------------
 
+            final String horizontalLine = horizontalLine(format, widths);
+
             // Write top line
             if (format.horizontalTableBorder())
-                formatHorizontalLine(writer, format, widths);
+                writer.append(horizontalLine);
 
             // Write headers
             if (format.verticalTableBorder())
                 writer.append('|');
 
-            for (int index = 0; index < fields.fields.length; index++) {
+            for (int index = 0; index < size; index++) {
                 if (index > 0)
                     if (format.verticalCellBorder())
                         writer.append('|');
                     else
                         writer.append(' ');
 
-                String padded;
-
-                if (Number.class.isAssignableFrom(fields.fields[index].getType()))
-                    padded = leftPad(fields.fields[index].getName(), widths[index]);
-                else
-                    padded = rightPad(fields.fields[index].getName(), widths[index]);
-
-                writer.append(abbreviate(padded, widths[index]));
+                formatCell(writer, fields.fields[index].getName(), widths[index], isNumCol[index]);
             }
 
             if (format.verticalTableBorder())
@@ -310,58 +284,43 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
 
             // Write separator
             if (format.horizontalHeaderBorder())
-                formatHorizontalLine(writer, format, widths);
+                writer.append(horizontalLine);
 
             // Write records
             int i;
+            String[] reuse = new String[size];
 
             recordLoop:
             for (i = 0; i < format.maxRows(); i++) {
-                R record = buffer.pollFirst();
+                String[] values = buffer.pollFirst();
 
-                if (record == null)
+                if (values == null)
                     if (it.hasNext())
-                        record = it.next();
+                        values = format0(it.next(), reuse);
                     else
                         break recordLoop;
 
                 // Write separator
                 if (i > 0 && format.horizontalCellBorder())
-                    formatHorizontalLine(writer, format, widths);
+                    writer.append(horizontalLine);
 
                 if (format.verticalTableBorder())
                     writer.append('|');
 
-                for (int index = 0; index < fields.fields.length; index++) {
+                for (int index = 0; index < size; index++) {
                     if (index > 0)
                         if (format.verticalCellBorder())
                             writer.append('|');
                         else
                             writer.append(' ');
 
-                    String value =
-                        StringUtils.replace(
-                            StringUtils.replace(
-                                StringUtils.replace(
-                                    format0(record.get(index), record.changed(index), true), "\n", "{lf}"
-                                ), "\r", "{cr}"
-                            ), "\t", "{tab}"
-                        );
-
-                    String padded;
-                    if (Number.class.isAssignableFrom(fields.fields[index].getType())) {
-                        // Align number value before left pad
-                        value = alignNumberValue(decimalPlaces[index], value);
+                    String value = escapeTXT(values[index]);
 
-                        // Left pad
-                        padded = leftPad(value, widths[index]);
-                    }
-                    else {
-                        // Right pad
-                        padded = rightPad(value, widths[index]);
-                    }
+                    // Align number value before left pad
+                    if (isNumCol[index])
+                        value = alignNumberValue(decimalPlaces[index], value);
 
-                    writer.append(abbreviate(padded, widths[index]));
+                    formatCell(writer, value, widths[index], isNumCol[index]);
                 }
 
                 if (format.verticalTableBorder())
@@ -372,7 +331,7 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
 
             // Write bottom line
             if (format.horizontalTableBorder() && i > 0)
-                formatHorizontalLine(writer, format, widths);
+                writer.append(horizontalLine);
 
             // Write truncation message, if applicable
             if (it.hasNext()) {
@@ -389,33 +348,93 @@ abstract class AbstractCursor<R extends Record> extends AbstractFormattable impl
         }
     }
 
-    private final void formatHorizontalLine(Writer writer, TXTFormat format, final int[] widths) throws java.io.IOException {
+    private final String[] format0(R record, String[] values) {
+        for (int index = 0; index < values.length; index++)
+            values[index] = format0(record.get(index), record.changed(index), true);
+
+        return values;
+    }
+
+    /**
+     * Write a padded (numbers to the left, other values to the right), or
+     * abbreviated value to a cell, without creating intermediary strings.
+     */
+    private static final void formatCell(Writer writer, String value, int width, boolean leftPad) throws java.io.IOException {
+        int padding = width - value.length();
+
+        if (padding < 0) {
+            writer.append(abbreviate(value, width));
+        }
+        else if (leftPad) {
+            pad(writer, ' ', padding);
+            writer.append(value);
+        }
+        else {
+            writer.append(value);
+            pad(writer, ' ', padding);
+        }
+    }
+
+    private static final void pad(Writer writer, char c, int length) throws java.io.IOException {
+        for (int i = 0; i < length; i++)
+            writer.write(c);
+    }
+
+    private static final String escapeTXT(String value) {
+        StringBuilder sb = null;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement =
+                  c == '\n' ? "{lf}"
+                : c == '\r' ? "{cr}"
+                : c == '\t' ? "{tab}"
+                : null;
+
+            if (replacement != null) {
+                if (sb == null)
+                    sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+
+                sb.append(replacement);
+            }
+            else if (sb != null) {
+                sb.append(c);
+            }
+        }
+
+        return sb == null ? value : sb.toString();
+    }
+
+    private final String horizontalLine(TXTFormat format, final int[] widths) {
+        StringBuilder sb = new StringBuilder();
+
         if (format.verticalTableBorder())
             if (format.intersectLines())
-                writer.append('+');
+                sb.append('+');
             else
-                writer.append('-');
+                sb.append('-');
 
         for (int index = 0; index < fields.fields.length; index++) {
             if (index > 0)
                 if (format.verticalCellBorder())
                     if (format.intersectLines())
-                        writer.append('+');
+                        sb.append('+');
                     else
-                        writer.append('-');
+                        sb.append('-');
                 else
-                    writer.append(' ');
+                    sb.append(' ');
 
-            writer.append(rightPad("", widths[index], "-"));
+            for (int i = 0; i < widths[index]; i++)
+                sb.append('-');
         }
 
         if (format.verticalTableBorder())
             if (format.intersectLines())
-                writer.append('+');
+                sb.append('+');
             else
-                writer.append('-');
+                sb.append('-');
 
-        writer.append('\n');
+        return sb.append('\n').toString();
     }
 
     private static final String alignNumberValue(Integer columnDecimalPlaces, String value) {
@@ -812,6 +812,11 @@ abstract class AbstractDMLQuery<R extends Record> extends AbstractRowCountQuery
             || this instanceof Delete && NATIVE_SUPPORT_DELETE_RETURNING.contains(ctx.dialect());
     }
 
+    @Override
+    final boolean pipelinable() {
+        return returning.isEmpty() && !keepStatement();
+    }
+
     @Override
     protected final void prepare(ExecuteContext ctx) throws SQLException {
         prepare0(ctx);
@@ -295,6 +295,12 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
             // Get the attached configuration of this query
             Configuration c = configuration();
 
+            // Queries executed in a pipelined scope are queued, unless they
+            // produce results that are needed immediately
+            Pipeline pipeline = Pipeline.pipeline(c);
+            if (pipeline != null && pipeline.add(this))
+                return 0;
+
             // [#1191] The following triggers a start event on all listeners.
             //         This may be used to provide jOOQ with a JDBC connection,
             //         in case this Query / Configuration was previously
@@ -490,6 +496,14 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         return true;
     }
 
+    /**
+     * Whether this query may be queued by a {@link Pipeline}, rather than be
+     * executed immediately. Subclasses may override this method.
+     */
+    /* non-final */ boolean pipelinable() {
+        return false;
+    }
+
     static class Rendered {
         String                  sql;
         QueryPartList<Param<?>> bindValues;
@@ -509,29 +523,33 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
 
     private final Rendered getSQL0(ExecuteContext ctx) {
         Rendered result;
+        boolean recycle = TRUE.equals(configuration().settings().isRenderRecycleBuffers());
 
         // [#3542] [#4977] Some dialects do not support bind values in DDL statements
         // [#6474] [#6929] Can this be communicated in a leaner way?
         if (ctx.type() == DDL) {
             ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-            DefaultRenderContext render = new DefaultRenderContext(configuration);
-            result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+            result = getSQLInlined(recycle);
         }
         else if (executePreparedStatements(configuration().settings())) {
+            StringBuilder sql = recycle ? RenderBuffers.acquire() : new StringBuilder();
+
             try {
-                DefaultRenderContext render = new DefaultRenderContext(configuration);
+                DefaultRenderContext render = new DefaultRenderContext(configuration, sql);
                 render.data(DATA_COUNT_BIND_VALUES, true);
                 result = new Rendered(render.visit(this).render(), render.bindValues(), render.peekSkipUpdateCounts());
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
-                DefaultRenderContext render = new DefaultRenderContext(configuration);
-                result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+                result = getSQLInlined(recycle);
+            }
+            finally {
+                if (recycle)
+                    RenderBuffers.release(sql);
             }
         }
         else {
-            DefaultRenderContext render = new DefaultRenderContext(configuration);
-            result = new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+            result = getSQLInlined(recycle);
         }
 
 
@@ -561,6 +579,19 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query {
         return result;
     }
 
+    private final Rendered getSQLInlined(boolean recycle) {
+        StringBuilder sql = recycle ? RenderBuffers.acquire() : new StringBuilder();
+
+        try {
+            DefaultRenderContext render = new DefaultRenderContext(configuration, sql);
+            return new Rendered(render.paramType(INLINED).visit(this).render(), null, render.peekSkipUpdateCounts());
+        }
+        finally {
+            if (recycle)
+                RenderBuffers.release(sql);
+        }
+    }
+
 
 
 
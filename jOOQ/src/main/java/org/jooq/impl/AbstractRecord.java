@@ -131,6 +131,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     final Object[]                  originals;
     final BitSet                    changed;
     boolean                         fetched;
+    transient LazyValues            lazy;
 
     /**
      * @deprecated - 3.14.0 - [#8495] - Prevent the array copy and call
@@ -154,12 +155,50 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         this.changed = new BitSet(size);
     }
 
+    // ------------------------------------------------------------------------
+    // XXX: Lazy decoding
+    // ------------------------------------------------------------------------
+
+    /**
+     * Values that are decoded only on first access.
+     *
+     * @see org.jooq.Cursor#decodeLazily()
+     */
+    interface LazyValues {
+
+        /**
+         * Decode the value at a given index, if it has not yet been decoded.
+         */
+        void resolve(AbstractRecord record, int index);
+
+        /**
+         * Decode all values that have not yet been decoded.
+         */
+        void resolve(AbstractRecord record);
+
+        /**
+         * Whether the value at a given index has not yet been decoded.
+         */
+        boolean pending(int index);
+    }
+
+    final void resolve(int index) {
+        if (lazy != null)
+            lazy.resolve(this, index);
+    }
+
+    final void resolve() {
+        if (lazy != null)
+            lazy.resolve(this);
+    }
+
     // ------------------------------------------------------------------------
     // XXX: Attachable API
     // ------------------------------------------------------------------------
 
     @Override
     final List<Attachable> getAttachables() {
+        resolve();
         List<Attachable> result = null;
 
         int size = size();
@@ -270,7 +309,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object get(int index) {
-        return values[safeIndex(index)];
+        resolve(safeIndex(index));
+        return values[index];
     }
 
     @Override
@@ -349,6 +389,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         //        To allow for explicitly overriding default values
         // [#979] Avoid modifying chnaged flag on unchanged primary key values
 
+        resolve(index);
         UniqueKey<?> key = getPrimaryKey();
 
         // Normal fields' changed flag is always set to true
@@ -418,7 +459,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     }
 
     final void intern0(int fieldIndex) {
-        safeIndex(fieldIndex);
+        resolve(safeIndex(fieldIndex));
 
         if (field(fieldIndex).getType() == String.class) {
             values[fieldIndex] = intern((String) values[fieldIndex]);
@@ -449,6 +490,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
      */
     @Override
     public Record original() {
+        resolve();
         return Tools.newRecord(fetched, (Class<AbstractRecord>) getClass(), fields.fields.fields, configuration())
                     .operate(new RecordOperation<AbstractRecord, RuntimeException>() {
 
@@ -471,7 +513,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object original(int fieldIndex) {
-        return originals[safeIndex(fieldIndex)];
+        resolve(safeIndex(fieldIndex));
+        return originals[fieldIndex];
     }
 
     @Override
@@ -511,6 +554,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(boolean c) {
+        resolve();
         changed.set(0, values.length, c);
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
@@ -527,7 +571,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void changed(int fieldIndex, boolean c) {
-        safeIndex(fieldIndex);
+        resolve(safeIndex(fieldIndex));
 
         changed.set(fieldIndex, c);
 
@@ -549,6 +593,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset() {
+        resolve();
         changed.clear();
 
         System.arraycopy(originals, 0, values, 0, originals.length);
@@ -561,7 +606,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final void reset(int fieldIndex) {
-        safeIndex(fieldIndex);
+        resolve(safeIndex(fieldIndex));
 
         changed.clear(fieldIndex);
         values[fieldIndex] = originals[fieldIndex];
@@ -779,6 +824,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         @Override
         public R operate(R target) throws MappingException {
             AbstractRecord source = AbstractRecord.this;
+            source.resolve();
 
             try {
 
@@ -46,6 +46,7 @@ import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.consumeResultSets;
 import static org.jooq.impl.Tools.executeStatementAndGetFirstResultSet;
+import static org.jooq.impl.Tools.fieldArray;
 
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
@@ -77,6 +78,7 @@ import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
 import org.jooq.Name;
+import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record10;
@@ -150,7 +152,24 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
     /**
      * Get a list of fields provided a result set.
      */
-    protected abstract Field<?>[] getFields(ResultSetMetaData rs) throws SQLException;
+    protected abstract Field<?>[] getFields(ExecuteContext ctx, ResultSetMetaData rs) throws SQLException;
+
+    /**
+     * Get the fields that this query is expected to project, prior to
+     * execution, or <code>null</code> if they are not known.
+     */
+    Field<?>[] projection() {
+        Collection<? extends Field<?>> fields = coerce();
+        return fields == null || fields.isEmpty() ? null : fieldArray(fields);
+    }
+
+    /**
+     * Get the queries whose results are expected from {@link #fetchMany()}, in
+     * order, or <code>null</code> if they are not known.
+     */
+    Query[] manyQueries() {
+        return null;
+    }
 
     @SuppressWarnings("unchecked")
     @Override
@@ -260,6 +279,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         }
 
         Tools.setFetchSize(ctx, fetchSize);
+        AdaptiveFetchSize.init(ctx, fetchSize, projection());
 
         // [#1854] [#4753] Set the max number of rows for this result query
         int m = SettingsTools.getMaxRows(maxRows, ctx.settings());
@@ -301,7 +321,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
                 ctx.resultSet(new MockResultSet(r));
             }
 
-            Field<?>[] fields = getFields(ctx.resultSet().getMetaData());
+            Field<?>[] fields = getFields(ctx, ctx.resultSet().getMetaData());
             cursor = new CursorImpl<>(ctx, listener, fields, intern.internIndexes(fields), keepStatement(), keepResultSet(), getRecordType(), SettingsTools.getMaxRows(maxRows, ctx.settings()), autoclosing);
 
             if (!lazy) {
@@ -313,7 +333,7 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         // Fetch several result sets
         else {
             results = new ResultsImpl(ctx.configuration());
-            consumeResultSets(ctx, listener, results, intern, e);
+            consumeResultSets(ctx, listener, results, intern, e, manyQueries());
         }
 
         return result != null ? result.size() : 0;
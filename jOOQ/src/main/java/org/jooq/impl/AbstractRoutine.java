@@ -354,6 +354,9 @@ public abstract class AbstractRoutine<T> extends AbstractNamed implements Routin
     public final int execute() {
         SQLDialect family = configuration.family();
 
+        // Routines may read data written by queued queries
+        Pipeline.flush(configuration);
+
         results.clear();
         outValues.clear();
 
@@ -110,7 +110,9 @@ abstract class AbstractStore extends AbstractFormattable implements Attachable {
      */
     @Deprecated
     protected final DSLContext create() {
-        return DSL.using(configuration());
+
+        // Records need the update counts of their queries immediately
+        return DSL.using(Pipeline.unpipelined(configuration()));
     }
 
     // -------------------------------------------------------------------------
@@ -0,0 +1,280 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_ADAPTIVE_FETCH_SIZE;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.jooq.DataType;
+import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.tools.JooqLogger;
+
+/**
+ * A tuner for the JDBC fetch size of a {@link ResultSet}, which is enabled
+ * with {@link Settings#isAdaptiveFetchSize()}.
+ * <p>
+ * The initial fetch size is estimated from the projected {@link DataType}s and
+ * the {@link Settings#getAdaptiveFetchSizeMemoryBudget()}. After each fetched
+ * batch of rows, the fetch size is adjusted:
+ * <ul>
+ * <li>It is reduced immediately, if the observed row sizes exceed the memory
+ * budget.</li>
+ * <li>It is doubled, up to the memory budget, as long as larger fetches keep
+ * increasing the observed throughput in rows per second.</li>
+ * </ul>
+ *
+ * @author Lukas Eder
+ */
+final class AdaptiveFetchSize {
+
+    private static final JooqLogger log                = JooqLogger.getLogger(AdaptiveFetchSize.class);
+
+    static final int                MIN_FETCH_SIZE     = 10;
+    static final int                MAX_FETCH_SIZE     = 100000;
+    static final int                DEFAULT_BUDGET     = 4 * 1024 * 1024;
+
+    /**
+     * The estimated per column overhead of a fetched value, in bytes.
+     */
+    private static final int        VALUE_OVERHEAD     = 16;
+
+    /**
+     * The estimated size of values of unknown width, in bytes.
+     */
+    private static final int        DEFAULT_WIDTH      = 64;
+
+    private final ResultSet         rs;
+    private final int[]             widths;
+    private final int               budget;
+    private int                     fetchSize;
+    private int                     batchRows;
+    private long                    batchBytes;
+    private long                    batchStart;
+    private double                  previousThroughput;
+
+    private AdaptiveFetchSize(ResultSet rs, Field<?>[] fields, int budget, int fetchSize) {
+        this.rs = rs;
+        this.widths = new int[fields.length];
+        this.budget = budget;
+        this.fetchSize = fetchSize;
+        this.batchStart = System.nanoTime();
+
+        for (int i = 0; i < fields.length; i++)
+            widths[i] = width(fields[i].getDataType()) + VALUE_OVERHEAD;
+    }
+
+    /**
+     * Set an initial fetch size on the statement of an {@link ExecuteContext},
+     * if adaptive fetch sizes are enabled, and if no explicit fetch size was
+     * specified.
+     *
+     * @param projection The projection of the query, if it is known prior to
+     *            execution, or <code>null</code>.
+     */
+    static final void init(ExecuteContext ctx, int fetchSize, Field<?>[] projection) throws SQLException {
+        PreparedStatement statement = ctx.statement();
+
+        if (statement == null
+                || SettingsTools.getFetchSize(fetchSize, ctx.settings()) != 0
+                || !TRUE.equals(ctx.settings().isAdaptiveFetchSize()))
+            return;
+
+        int f = initialFetchSize(budget(ctx.settings()), projection);
+
+        if (log.isDebugEnabled())
+            log.debug("Setting adaptive fetch size", f);
+
+        statement.setFetchSize(f);
+        ctx.data(DATA_ADAPTIVE_FETCH_SIZE, true);
+    }
+
+    /**
+     * Create a tuner for the {@link ResultSet} of an {@link ExecuteContext}, if
+     * {@link #init(ExecuteContext, int, Field[])} enabled it.
+     */
+    static final AdaptiveFetchSize tuner(ExecuteContext ctx, Field<?>[] fields) {
+        if (ctx.data(DATA_ADAPTIVE_FETCH_SIZE) == null || ctx.resultSet() == null)
+            return null;
+
+        try {
+            ResultSet rs = ctx.resultSet();
+            int budget = budget(ctx.settings());
+            int f = initialFetchSize(budget, fields);
+
+            // The projection may not have been known prior to execution
+            if (rs.getFetchSize() != f)
+                rs.setFetchSize(f);
+
+            return new AdaptiveFetchSize(rs, fields, budget, f);
+        }
+        catch (SQLException e) {
+            log.debug("Adaptive fetch size", "Cannot tune fetch size: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Observe a fetched record, returning <code>false</code> if tuning should
+     * not continue.
+     */
+    final boolean fetched(AbstractRecord record) {
+        batchBytes += bytes(record);
+
+        if (++batchRows < fetchSize)
+            return true;
+
+        long now = System.nanoTime();
+        double throughput = batchRows * 1000000000.0 / max(1L, now - batchStart);
+        int target = clamp(budget / max(1L, batchBytes / batchRows));
+        int next;
+
+        // Shrink immediately when rows are larger than expected, and grow as
+        // long as larger fetches pay off
+        if (target < fetchSize)
+            next = target;
+        else if (throughput >= previousThroughput)
+            next = min(target, fetchSize * 2);
+        else
+            next = fetchSize;
+
+        previousThroughput = throughput;
+        batchRows = 0;
+        batchBytes = 0;
+        batchStart = now;
+
+        if (next != fetchSize) {
+            try {
+                if (log.isDebugEnabled())
+                    log.debug("Adjusting adaptive fetch size", fetchSize + " -> " + next);
+
+                rs.setFetchSize(fetchSize = next);
+            }
+            catch (SQLException e) {
+                log.debug("Adaptive fetch size", "Cannot tune fetch size: " + e.getMessage());
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    static final int initialFetchSize(int budget, Field<?>[] projection) {
+        if (projection == null || projection.length == 0)
+            return MIN_FETCH_SIZE;
+
+        long width = 0;
+        for (Field<?> field : projection)
+            width += width(field.getDataType()) + VALUE_OVERHEAD;
+
+        return clamp(budget / max(1L, width));
+    }
+
+    /**
+     * Estimate the width of a value of a given type, in bytes.
+     */
+    private static final int width(DataType<?> type) {
+        Class<?> t = type.getType();
+
+        if (t == Boolean.class || t == Byte.class)
+            return 1;
+        else if (t == Short.class)
+            return 2;
+        else if (t == Integer.class || t == Float.class)
+            return 4;
+        else if (t == Long.class || t == Double.class)
+            return 8;
+        else if (t == BigDecimal.class || t == BigInteger.class)
+            return 16 + (type.hasPrecision() ? type.precision() / 2 : 16);
+        else if (java.util.Date.class.isAssignableFrom(t) || t.getName().startsWith("java.time."))
+            return 24;
+        else if (t == String.class)
+            return 2 * (type.hasLength() && type.length() > 0 ? min(type.length(), 1024) : DEFAULT_WIDTH);
+        else if (t == byte[].class)
+            return type.hasLength() && type.length() > 0 ? min(type.length(), 4096) : 4 * DEFAULT_WIDTH;
+        else
+            return DEFAULT_WIDTH;
+    }
+
+    /**
+     * Estimate the size of a fetched record's values, in bytes.
+     * <p>
+     * Values that are decoded lazily are not decoded for this. Their size is
+     * estimated from their column's data type, as they are usually the wide
+     * ones.
+     */
+    private final long bytes(AbstractRecord record) {
+        long result = 0;
+
+        for (int i = 0; i < record.values.length; i++) {
+            Object value = record.values[i];
+
+            if (record.lazy != null && i < widths.length && record.lazy.pending(i))
+                result += widths[i];
+            else if (value instanceof String)
+                result += VALUE_OVERHEAD + 2 * ((String) value).length();
+            else if (value instanceof byte[])
+                result += VALUE_OVERHEAD + ((byte[]) value).length;
+            else if (value != null)
+                result += VALUE_OVERHEAD + 8;
+            else
+                result += 8;
+        }
+
+        return result;
+    }
+
+    private static final int budget(Settings settings) {
+        Integer budget = settings.getAdaptiveFetchSizeMemoryBudget();
+        return budget != null && budget > 0 ? budget : DEFAULT_BUDGET;
+    }
+
+    private static final int clamp(long fetchSize) {
+        return (int) max(MIN_FETCH_SIZE, min(MAX_FETCH_SIZE, fetchSize));
+    }
+}
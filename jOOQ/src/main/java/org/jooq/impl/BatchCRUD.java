@@ -37,23 +37,44 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
 import static org.jooq.conf.SettingsTools.executeStaticStatements;
+import static org.jooq.impl.RecordDelegate.delegate;
+import static org.jooq.impl.RecordDelegate.RecordLifecycleType.INSERT;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_OMIT_RETURNING_CLAUSE;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_OPTIMISTIC_LOCK_CHECKED;
 
+import java.math.BigInteger;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.jooq.BatchBindStep;
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.InsertQuery;
 import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
 import org.jooq.TableRecord;
 import org.jooq.UpdatableRecord;
 import org.jooq.exception.ControlFlowSignal;
 import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataChangedException;
 
 /**
  * @author Lukas Eder
@@ -63,10 +84,22 @@ final class BatchCRUD extends AbstractBatch {
     /**
      * Generated UID
      */
-    private static final long      serialVersionUID = -2935544935267715011L;
+    private static final long            serialVersionUID    = -2935544935267715011L;
 
-    private final TableRecord<?>[] records;
-    private final Action           action;
+    /**
+     * Dialects whose multi-row <code>INSERT .. RETURNING</code> (or emulation)
+     * produces one returned row per inserted row, in insertion order.
+     */
+    private static final Set<SQLDialect> MULTI_ROW_RETURNING = SQLDialect.supportedBy(H2, MARIADB, MYSQL, POSTGRES);
+
+    /**
+     * The maximum number of rows per multi-row <code>INSERT</code> statement,
+     * regardless of the bind value limit.
+     */
+    private static final int             MULTI_ROW_MAX_ROWS  = 1000;
+
+    private final TableRecord<?>[]       records;
+    private final Action                 action;
 
     BatchCRUD(Configuration configuration, Action action, TableRecord<?>[] records) {
         super(configuration);
@@ -80,9 +113,22 @@ final class BatchCRUD extends AbstractBatch {
         return records.length;
     }
 
+    @Override
+    final BatchCRUD chunk(int offset, int count) {
+        return new BatchCRUD(configuration, action, Arrays.copyOfRange(records, offset, offset + count));
+    }
+
     @Override
     public final int[] execute() throws DataAccessException {
 
+        // Group records into multi-row INSERT statements, if requested
+        if (action == Action.INSERT && TRUE.equals(configuration.settings().isBatchInsertMultiRow()))
+            return executeMultiRow();
+
+        // [#1547] Verify optimistic locks of all records in bulk, rather than
+        // with one SELECT .. FOR UPDATE query per record
+        checkIfChanged();
+
         // [#1180] Run batch queries with BatchMultiple, if no bind variables
         // should be used...
         if (executeStaticStatements(configuration.settings()))
@@ -103,6 +149,7 @@ final class BatchCRUD extends AbstractBatch {
 
         // [#1537] Communicate with UpdatableRecordImpl
         local.data(DATA_OMIT_RETURNING_CLAUSE, true);
+        local.data(DATA_OPTIMISTIC_LOCK_CHECKED, true);
 
         // [#1529] Avoid DEBUG logging of single INSERT / UPDATE statements
         local.settings().setExecuteLogging(false);
@@ -167,6 +214,8 @@ final class BatchCRUD extends AbstractBatch {
             new DefaultExecuteListenerProvider(collector)
         ));
 
+        local.data(DATA_OPTIMISTIC_LOCK_CHECKED, true);
+
         for (int i = 0; i < records.length; i++) {
             Configuration previous = records[i].configuration();
 
@@ -191,6 +240,226 @@ final class BatchCRUD extends AbstractBatch {
         return result;
     }
 
+    private final int[] executeMultiRow() {
+        int[] result = new int[records.length];
+        int limit = bindValueLimit(configuration);
+
+        for (int i = 0; i < records.length;) {
+            int rows = 1;
+
+            if (records[i] instanceof TableRecordImpl && !((TableRecordImpl<?>) records[i]).changed.isEmpty()) {
+                TableRecordImpl<?> first = (TableRecordImpl<?>) records[i];
+                Collection<Field<?>> key = returning(first);
+
+                // Version and timestamp columns may be added to each row
+                int max = Math.max(1, Math.min(MULTI_ROW_MAX_ROWS, limit / (first.changed.cardinality() + 2)));
+
+                // Without reliable multi-row RETURNING support, generated
+                // identities can only be fetched row by row
+                if (key != null && !MULTI_ROW_RETURNING.contains(configuration.dialect()))
+                    if (first.getTable().getIdentity() != null || TRUE.equals(configuration.settings().isReturnAllOnUpdatableRecord()))
+                        max = 1;
+                    else
+                        key = null;
+
+                while (rows < max && i + rows < records.length && sameShape(first, records[i + rows]))
+                    rows++;
+
+                executeMultiRow(result, i, rows, key);
+            }
+            else {
+                TableRecord<?> record = records[i];
+                Configuration previous = record.configuration();
+
+                try {
+                    if (previous == null)
+                        record.attach(configuration);
+
+                    result[i] = record.insert();
+                }
+                finally {
+                    record.attach(previous);
+                }
+            }
+
+            i += rows;
+        }
+
+        updateChangedFlag();
+        return result;
+    }
+
+    /**
+     * Execute a single multi-row <code>INSERT</code> statement for
+     * <code>records[offset .. offset + rows]</code>.
+     * <p>
+     * {@link org.jooq.RecordListener} events are nested, such that all
+     * <code>insertStart()</code> events are fired before, and all
+     * <code>insertEnd()</code> events after the statement is executed, in
+     * reverse order. The events are fired iteratively, rather than by nesting
+     * calls to {@link RecordDelegate#operate(RecordOperation)}, which would
+     * need a stack frame per row.
+     */
+    private final void executeMultiRow(int[] result, int offset, int rows, Collection<Field<?>> key) {
+        RecordDelegate<?>[] delegates = new RecordDelegate[rows];
+        RuntimeException exception = null;
+        int started = 0;
+
+        try {
+            for (; started < rows; started++) {
+                TableRecord<?> record = records[offset + started];
+
+                delegates[started] = delegate(record.configuration() != null ? record.configuration() : configuration, (Record) record, INSERT);
+                delegates[started].start();
+            }
+
+            insertMultiRow(result, offset, rows, key);
+        }
+        catch (RuntimeException e) {
+            exception = e;
+        }
+
+        // Exceptions propagate to the outer records, as with nested operations
+        for (int i = started - 1; i >= 0; i--) {
+            try {
+                if (exception != null)
+                    delegates[i].exception(exception);
+
+                delegates[i].end();
+            }
+            catch (RuntimeException e) {
+                exception = e;
+            }
+        }
+
+        if (exception != null)
+            throw exception;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private final void insertMultiRow(int[] result, int offset, int rows, Collection<Field<?>> key) {
+        TableRecordImpl first = (TableRecordImpl) records[offset];
+
+        // RecordListeners may have changed individual records
+        for (int i = 1; i < rows; i++) {
+            if (!sameShape(first, records[offset + i])) {
+                for (int j = 0; j < rows; j++) {
+                    TableRecordImpl record = (TableRecordImpl) records[offset + j];
+                    result[offset + j] = record.storeInsert0(record.fields.fields.fields);
+                }
+
+                return;
+            }
+        }
+
+        Field<?>[] storeFields = first.fields.fields.fields;
+        InsertQuery<?> insert = dsl.insertQuery(first.getTable());
+        BigInteger[] versions = new BigInteger[rows];
+        Timestamp[] timestamps = new Timestamp[rows];
+
+        for (int i = 0; i < rows; i++) {
+            TableRecordImpl record = (TableRecordImpl) records[offset + i];
+
+            if (i > 0)
+                insert.newRecord();
+
+            record.addChangedValues(storeFields, insert, false);
+            versions[i] = record.addRecordVersion(insert, false);
+            timestamps[i] = record.addRecordTimestamp(insert, false);
+        }
+
+        if (key != null)
+            insert.setReturning(key);
+
+        int count = insert.execute();
+        Result<?> returned = key != null ? insert.getReturnedRecords() : null;
+
+        for (int i = 0; i < rows; i++) {
+            TableRecordImpl record = (TableRecordImpl) records[offset + i];
+            result[offset + i] = count == rows ? 1 : Statement.SUCCESS_NO_INFO;
+
+            if (count > 0) {
+                record.changed(false);
+                record.setRecordVersionAndTimestamp(versions[i], timestamps[i]);
+
+                if (returned != null && returned.size() == rows)
+                    record.setReturned(returned.get(i), key);
+
+                record.fetched = true;
+            }
+        }
+    }
+
+    private final Collection<Field<?>> returning(TableRecordImpl<?> record) {
+        if (FALSE.equals(configuration.settings().isReturnIdentityOnUpdatableRecord()))
+            return null;
+
+        // [#1859] Return also non-key columns
+        Collection<Field<?>> key = TRUE.equals(configuration.settings().isReturnAllOnUpdatableRecord())
+            ? Arrays.asList(record.fields())
+            : record.getReturning();
+
+        return key.isEmpty() ? null : key;
+    }
+
+    private static final boolean sameShape(TableRecordImpl<?> first, TableRecord<?> other) {
+        return other instanceof TableRecordImpl
+            && first.getTable().equals(other.getTable())
+            && first.changed.equals(((TableRecordImpl<?>) other).changed);
+    }
+
+    /**
+     * The maximum number of bind values per statement, derived from
+     * {@link org.jooq.conf.Settings#getInlineThreshold()}, or the dialect's
+     * known limits.
+     */
+    static final int bindValueLimit(Configuration configuration) {
+        Integer threshold = configuration.settings().getInlineThreshold();
+
+        if (threshold != null && threshold > 0)
+            return threshold;
+
+        switch (configuration.family()) {
+            case MARIADB:
+            case MYSQL:
+                return 65535;
+
+            case SQLITE:
+                return 999;
+
+            // [#5701] The PostgreSQL limit also serves as a reasonable default
+            case POSTGRES:
+            default:
+                return 32767;
+        }
+    }
+
+    /**
+     * Check whether any record that is subject to optimistic locking has been
+     * changed in the database, using a single query per table and chunk.
+     */
+    private final void checkIfChanged() {
+        List<UpdatableRecord<?>> check = new ArrayList<>();
+
+        for (TableRecord<?> record : records)
+            if (UpdatableRecords.lockCheckRequired(configuration, record, action))
+                check.add((UpdatableRecord<?>) record);
+
+        if (check.isEmpty())
+            return;
+
+        List<UpdatableRecord<?>> stale = UpdatableRecords.stale(configuration, check, true);
+
+        if (!stale.isEmpty()) {
+            List<Object> keys = new ArrayList<>(stale.size());
+
+            for (UpdatableRecord<?> record : stale)
+                keys.add(record.key().intoList());
+
+            throw new DataChangedException("Database records have been changed or don't exist any longer: " + keys);
+        }
+    }
+
     private void executeAction(int i) {
         switch (action) {
             case STORE:
@@ -39,6 +39,7 @@ package org.jooq.impl;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
@@ -70,6 +71,11 @@ final class BatchMultiple extends AbstractBatch {
         return queries.length;
     }
 
+    @Override
+    final BatchMultiple chunk(int offset, int count) {
+        return new BatchMultiple(configuration, Arrays.copyOfRange(queries, offset, offset + count));
+    }
+
     @Override
     public final int[] execute() {
         return execute(configuration, queries);
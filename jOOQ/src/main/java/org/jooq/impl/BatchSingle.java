@@ -102,6 +102,15 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         }
     }
 
+    private BatchSingle(BatchSingle batch, List<Object[]> allBindValues) {
+        super(batch.configuration);
+
+        this.query = batch.query;
+        this.allBindValues = allBindValues;
+        this.nameToIndexMapping = batch.nameToIndexMapping;
+        this.expectedBindValues = batch.expectedBindValues;
+    }
+
     @Override
     public final BatchSingle bind(Object... bindValues) {
         allBindValues.add(bindValues);
@@ -149,6 +158,11 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
         return allBindValues.size();
     }
 
+    @Override
+    final BatchSingle chunk(int offset, int count) {
+        return new BatchSingle(this, new ArrayList<>(allBindValues.subList(offset, offset + count)));
+    }
+
     @Override
     public final int[] execute() {
 
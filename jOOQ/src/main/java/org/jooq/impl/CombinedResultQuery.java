@@ -0,0 +1,181 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
+
+import java.sql.ResultSetMetaData;
+import java.util.Set;
+
+import org.jooq.Block;
+import org.jooq.Clause;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.Queries;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+
+/**
+ * A {@link ResultQuery} that sends all of a {@link Queries} reference's queries
+ * to the server in a single multi-statement request, and reads their update
+ * counts and result sets back from {@link #fetchMany()}.
+ *
+ * @author Lukas Eder
+ */
+final class CombinedResultQuery extends AbstractResultQuery<Record> {
+
+    /**
+     * Generated UID
+     */
+    private static final long            serialVersionUID = -2924397186462346395L;
+    private static final Set<SQLDialect> SUPPORT_COMBINED = SQLDialect.supportedBy(MARIADB, MYSQL, POSTGRES);
+
+    private final QueriesImpl            queries;
+    private final Query[]                array;
+
+    CombinedResultQuery(Configuration configuration, QueriesImpl queries, Query[] array) {
+        super(configuration);
+
+        this.queries = queries;
+        this.array = unwrap(array);
+    }
+
+    /**
+     * Unwrap the DSL API's delegating queries into their
+     * {@link AbstractQuery} implementations.
+     */
+    private static final Query[] unwrap(Query[] queries) {
+        Query[] result = new Query[queries.length];
+
+        for (int i = 0; i < queries.length; i++) {
+            Query query = queries[i];
+
+            while (query instanceof AbstractDelegatingQuery)
+                query = ((AbstractDelegatingQuery<?>) query).getDelegate();
+
+            result[i] = query;
+        }
+
+        return result;
+    }
+
+    /**
+     * Whether a set of queries can be executed in a single request, producing
+     * exactly one update count or result set per query.
+     */
+    static final boolean combinable(Configuration configuration, Query[] queries) {
+        if (configuration == null
+                || queries.length < 2
+                || !TRUE.equals(configuration.settings().isFetchManyCombined())
+                || !SUPPORT_COMBINED.contains(configuration.dialect()))
+            return false;
+
+        for (Query query : unwrap(queries))
+
+            // DML with RETURNING produces result sets instead of update
+            // counts, and blocks may be emulated with several statements
+            if (query instanceof AbstractDMLQuery && !((AbstractDMLQuery<?>) query).returning.isEmpty()
+                    || query instanceof Block
+                    || !executable(configuration, query))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Whether a query would be executed by
+     * {@link org.jooq.DSLContext#execute(Query)}.
+     * <p>
+     * Queries that are skipped, e.g. <code>INSERT</code> statements without
+     * any values, or that fail this check, e.g. <code>DELETE</code> statements
+     * without <code>WHERE</code> clause with
+     * {@link org.jooq.conf.ExecuteWithoutWhere#THROW}, are executed
+     * sequentially, producing the same results or exceptions as without
+     * combining.
+     */
+    private static final boolean executable(Configuration configuration, Query query) {
+        Configuration previous = Tools.getConfiguration(query);
+
+        try {
+            query.attach(configuration);
+            return query.isExecutable();
+        }
+        catch (RuntimeException e) {
+            return false;
+        }
+        finally {
+            query.attach(previous);
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // ResultQuery API
+    // ------------------------------------------------------------------------
+
+    @Override
+    public final void accept(Context<?> ctx) {
+        ctx.visit(queries);
+    }
+
+    @Override
+    public final Clause[] clauses(Context<?> ctx) {
+        return null;
+    }
+
+    @Override
+    final Class<? extends Record> getRecordType0() {
+        return RecordImplN.class;
+    }
+
+    @Override
+    protected final Field<?>[] getFields(ExecuteContext ctx, ResultSetMetaData meta) {
+        return MetaDataFieldProvider.fields(configuration(), ctx.sql(), meta);
+    }
+
+    @Override
+    final Query[] manyQueries() {
+        return array;
+    }
+}
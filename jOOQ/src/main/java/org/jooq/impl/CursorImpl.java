@@ -38,6 +38,8 @@
 package org.jooq.impl;
 
 // ...
+import static java.lang.Boolean.TRUE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.jooq.impl.Tools.embeddedFields;
 import static org.jooq.impl.Tools.recordFactory;
 
@@ -70,11 +72,15 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -86,6 +92,8 @@ import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.Table;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultBinding.AbstractBinding;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -96,16 +104,19 @@ import org.jooq.tools.jdbc.JDBCUtils;
 final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cursor<R> {
 
     private static final JooqLogger                        log = JooqLogger.getLogger(CursorImpl.class);
+    private static final Object                            END      = new Object();
+    private static final Object                            MAX_ROWS = new Object();
 
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
     private final boolean[]                                intern;
+    private final StringPool[]                             pools;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
     private final int                                      maxRows;
     private final F0<? extends R>                          factory;
-    private boolean                                        isClosed;
+    private volatile boolean                               isClosed;
 
     private transient CursorResultSet                      rs;
     private transient DefaultBindingGetResultSetContext<?> rsContext;
@@ -116,7 +127,10 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
 
     private transient Iterator<R>                          iterator;
+    private transient CursorPrefetcher                     prefetcher;
     private transient int                                  rows;
+    private transient AbstractBinding<?, ?>[]              lazyColumns;
+    private transient AdaptiveFetchSize                    adaptiveFetchSize;
 
 
     @SuppressWarnings("unchecked")
@@ -149,6 +163,24 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         }
         else
             this.intern = null;
+
+        this.pools = TRUE.equals(ctx.settings().isFetchDeduplicateStrings()) ? pools(fields) : null;
+        this.adaptiveFetchSize = AdaptiveFetchSize.tuner(ctx, fields);
+    }
+
+    private static final StringPool[] pools(Field<?>[] fields) {
+        StringPool[] result = null;
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].getType() == String.class) {
+                if (result == null)
+                    result = new StringPool[fields.length];
+
+                result[i] = new StringPool();
+            }
+        }
+
+        return result;
     }
 
 
@@ -231,6 +263,64 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
         return stream().collect(collector);
     }
 
+    @Override
+    public final Cursor<R> prefetch(int size) {
+        if (size > 0 && prefetcher == null && !isClosed) {
+
+            // [#1157] This invokes listener.fetchStart(ctx) on the calling
+            // thread, before any records are fetched on the prefetching thread
+            CursorIterator delegate = (CursorIterator) iterator();
+            prefetcher = new CursorPrefetcher(delegate, size);
+            lazyColumns = null;
+            iterator = prefetcher;
+
+            try {
+                prefetcher.start();
+            }
+            catch (RuntimeException e) {
+                prefetcher = null;
+                iterator = delegate;
+                throw e;
+            }
+        }
+
+        return this;
+    }
+
+
+    @Override
+    public final Cursor<R> decodeLazily() {
+        if (lazyColumns == null && prefetcher == null && !isClosed)
+            lazyColumns = lazyColumns();
+
+        return this;
+    }
+
+    private final AbstractBinding<?, ?>[] lazyColumns() {
+        AbstractBinding<?, ?>[] result = new AbstractBinding[fields.fields.length];
+        boolean lazy = false;
+
+        for (int i = 0; i < result.length; i++) {
+            Field<?> field = fields.fields[i];
+
+            // Nested records are read from several columns at given offsets
+            if (field instanceof RowField || field instanceof EmbeddableTableField)
+                return null;
+
+            // Values are always read from the ResultSet eagerly. Only their
+            // conversion to the user type is deferred, so that records can
+            // escape from the cursor's current row.
+            if ((intern == null || !intern[i])
+                    && (pools == null || pools[i] == null)
+                    && field.getBinding() instanceof AbstractBinding
+                    && !(((AbstractBinding<?, ?>) field.getBinding()).converter() instanceof IdentityConverter)) {
+                result[i] = (AbstractBinding<?, ?>) field.getBinding();
+                lazy = true;
+            }
+        }
+
+        return lazy ? result : null;
+    }
 
     @Override
     public final boolean hasNext() {
@@ -274,7 +364,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     @Override
     public final R fetchNext() {
-        Result<R> result = fetch(1);
+        Result<R> result = fetchNext0(1, false);
 
         if (result.size() == 1) {
             return result.get(0);
@@ -337,17 +427,31 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     @Override
     public final Result<R> fetchNext(int number) {
+        return fetchNext0(number, true);
+    }
+
+    private final Result<R> fetchNext0(int number, boolean resolve) {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
 
-        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields.fields);
+        Configuration configuration = ((DefaultExecuteContext) ctx).originalConfiguration();
+        Integer threshold = ctx.settings().getFetchSpillThreshold();
+        ResultImpl<R> result = threshold != null && threshold > 0
+            ? new ResultImpl<>(configuration, fields, new SpilledRecordList<R>(configuration, factory, fields.fields, threshold))
+            : new ResultImpl<>(configuration, fields.fields);
 
         ctx.result(result);
         listener.resultStart(ctx);
 
         for (int i = 0; i < number && iterator().hasNext(); i++) {
-            result.addRecord(iterator().next());
+            R record = iterator().next();
+
+            // Lazily decoded records escape into the result
+            if (resolve)
+                ((AbstractRecord) record).resolve();
+
+            result.addRecord(record);
         }
 
         ctx.result(result);
@@ -405,6 +509,12 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     @Override
     public final void close() {
+
+        // The ResultSet must not be closed while it is still being read from
+        // the prefetching thread.
+        if (prefetcher != null)
+            prefetcher.cancel();
+
         JDBCUtils.safeClose(rs);
         rs = null;
         isClosed = true;
@@ -1545,6 +1655,182 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
     }
 
+    /**
+     * An iterator that reads records from the underlying {@link ResultSet} on
+     * a separate thread, buffering them in a bounded queue.
+     * <p>
+     * The prefetching thread only reads and decodes rows. All
+     * {@link ExecuteListener} events, as well as closing the cursor, happen on
+     * the consuming thread.
+     */
+    final class CursorPrefetcher implements Iterator<R>, Runnable {
+
+        private final CursorIterator        delegate;
+        private final BlockingQueue<Object> queue;
+        private final CountDownLatch        done;
+        private volatile boolean            cancelled;
+
+        /**
+         * The next record, whose record level events have already been fired.
+         */
+        private R                           next;
+
+        /**
+         * The terminal element taken from the queue, which may be
+         * {@link CursorImpl#END}, {@link CursorImpl#MAX_ROWS}, or a
+         * {@link Throwable}.
+         */
+        private Object                      terminal;
+
+        CursorPrefetcher(CursorIterator delegate, int size) {
+            this.delegate = delegate;
+            this.queue = new ArrayBlockingQueue<>(size);
+            this.done = new CountDownLatch(1);
+
+            // A record may have been fetched already by a previous call to
+            // hasNext()
+            this.next = delegate.pending();
+        }
+
+        final void start() {
+
+            // Prefetching blocks while the queue is full, so it does not run
+            // on a shared pool, such as the ForkJoinPool.commonPool()
+            Thread thread = new Thread(this, "jOOQ Cursor prefetcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public final void run() {
+            try {
+                AbstractRecord record;
+
+                while (!cancelled && (record = delegate.prefetchNext()) != null)
+                    if (!offer(record))
+                        return;
+
+                offer(maxRows > 0 && rows >= maxRows ? MAX_ROWS : END);
+            }
+
+            // [#3427] ControlFlowSignals and all other exceptions are
+            // propagated to the consuming thread, in order, where they are
+            // passed on to ExecuteListeners.
+            catch (Throwable e) {
+                offer(e);
+            }
+            finally {
+                done.countDown();
+            }
+        }
+
+        /**
+         * Offer an element to the queue, unless prefetching is cancelled.
+         */
+        private final boolean offer(Object element) {
+            try {
+                while (!cancelled)
+                    if (queue.offer(element, 100, MILLISECONDS))
+                        return true;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return false;
+        }
+
+        /**
+         * Take the next element from the queue, or fail if the prefetching
+         * thread terminated without producing any.
+         */
+        private final Object take() {
+            try {
+                Object result;
+
+                while ((result = queue.poll(100, MILLISECONDS)) == null)
+                    if (done.getCount() == 0)
+                        if ((result = queue.poll()) == null)
+                            throw new DataAccessException("The prefetching thread terminated unexpectedly");
+                        else
+                            break;
+
+                return result;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while waiting for the next prefetched record", e);
+            }
+        }
+
+        /**
+         * Stop prefetching and wait for the prefetching thread to terminate.
+         */
+        final void cancel() {
+            cancelled = true;
+
+            try {
+                do {
+                    queue.clear();
+                }
+                while (!done.await(10, MILLISECONDS));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while waiting for the prefetching thread to terminate", e);
+            }
+
+            queue.clear();
+            next = null;
+
+            if (terminal == null)
+                terminal = END;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final boolean hasNext() {
+            if (next != null)
+                return true;
+            else if (terminal != null)
+                return false;
+
+            Object element = take();
+
+            if (element instanceof AbstractRecord) {
+                next = (R) delegate.prefetched((AbstractRecord) element);
+                return true;
+            }
+
+            terminal = element;
+
+            if (element instanceof Throwable)
+                delegate.fail((Throwable) element);
+
+            // [#1868] [#2373] [#2385] [#8544] Lazy-terminate the
+            // ExecuteListener lifecycle on the consuming thread.
+            else if (element == END && autoclosing)
+                CursorImpl.this.close();
+
+            return false;
+        }
+
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this Cursor");
+
+            R result = next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     /**
      * An iterator for records fetched by this cursor
      */
@@ -1599,25 +1885,13 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
             try {
                 if (!isClosed && rs.next()) {
                     record = Tools.newRecord(true, (F0<AbstractRecord>) factory, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                  .operate(new CursorRecordInitialiser(fields.fields, 0));
+                                  .operate(new CursorRecordInitialiser(fields.fields, 0, true));
 
-                    rows++;
+                    fetched(record);
                 }
             }
-
-            // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
-            catch (ControlFlowSignal e) {
-                throw e;
-            }
-            catch (RuntimeException e) {
-                ctx.exception(e);
-                listener.exception(ctx);
-                throw ctx.exception();
-            }
-            catch (SQLException e) {
-                ctx.sqlException(e);
-                listener.exception(ctx);
-                throw ctx.exception();
+            catch (Throwable e) {
+                fail(e);
             }
 
             // [#1868] [#2373] [#2385] [#8544] This calls through to
@@ -1630,23 +1904,191 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
             return (R) record;
         }
 
+        private final void fetched(AbstractRecord record) {
+            rows++;
+
+            if (adaptiveFetchSize != null && !adaptiveFetchSize.fetched(record))
+                adaptiveFetchSize = null;
+        }
+
+        /**
+         * Pass an exception on to ExecuteListeners and rethrow it.
+         */
+        final void fail(Throwable e) {
+
+            // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+            if (e instanceof ControlFlowSignal)
+                throw (ControlFlowSignal) e;
+            else if (e instanceof Error)
+                throw (Error) e;
+
+            if (e instanceof SQLException)
+                ctx.sqlException((SQLException) e);
+            else
+                ctx.exception((RuntimeException) e);
+
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+
+        /**
+         * Remove and return the record that has already been fetched by
+         * {@link #hasNext()}, if any.
+         */
+        final R pending() {
+            R result = Boolean.TRUE.equals(hasNext) ? next : null;
+
+            if (result != null) {
+                hasNext = null;
+                next = null;
+            }
+
+            return result;
+        }
+
+        /**
+         * Read and decode the next record on the prefetching thread, without
+         * firing any {@link ExecuteListener} events.
+         */
+        @SuppressWarnings("unchecked")
+        final AbstractRecord prefetchNext() throws SQLException {
+            if (isClosed || maxRows > 0 && rows >= maxRows || !rs.next())
+                return null;
+
+            AbstractRecord record = Tools.newRecord(true, (F0<AbstractRecord>) factory, ((DefaultExecuteContext) ctx).originalConfiguration())
+                                         .operate(new CursorRecordInitialiser(fields.fields, 0, false));
+
+            fetched(record);
+            return record;
+        }
+
+        /**
+         * Fire the record level {@link ExecuteListener} events for a record
+         * that has been decoded on the prefetching thread, on the consuming
+         * thread.
+         */
+        final AbstractRecord prefetched(AbstractRecord record) {
+            try {
+                prefetched(record, fields.fields);
+            }
+            catch (Throwable e) {
+                fail(e);
+            }
+
+            return record;
+        }
+
+        private final void prefetched(AbstractRecord record, Field<?>[] recordFields) {
+            ctx.record(record);
+            listener.recordStart(ctx);
+
+            for (int i = 0; i < recordFields.length; i++) {
+                Field<?> field = recordFields[i];
+
+                if (record.values[i] instanceof AbstractRecord)
+                    if (field instanceof RowField)
+                        prefetched((AbstractRecord) record.values[i], ((RowField<?, ?>) field).emulatedFields());
+                    else if (field instanceof EmbeddableTableField)
+                        prefetched((AbstractRecord) record.values[i], embeddedFields(field));
+            }
+
+            postprocess(record, recordFields);
+            ctx.record(record);
+            listener.recordEnd(ctx);
+        }
+
+        /**
+         * Intern and deduplicate the values of a decoded record.
+         */
+        private final void postprocess(AbstractRecord record, Field<?>[] recordFields) {
+            if (intern != null)
+                for (int i = 0; i < intern.length; i++)
+                    if (intern[i])
+                        record.intern0(i);
+
+            // Nested records are not deduplicated
+            if (pools != null && recordFields == fields.fields)
+                for (int i = 0; i < pools.length; i++)
+                    if (pools[i] != null && pools[i].active())
+                        record.values[i] = record.originals[i] = pools[i].dedup((String) record.values[i]);
+        }
+
         @Override
         public final void remove() {
             throw new UnsupportedOperationException();
         }
 
+        /**
+         * Values that have been read from a row, but that have not yet been
+         * converted to their user types.
+         */
+        private class LazyValues implements AbstractRecord.LazyValues {
+
+            private final Object[]  raw;
+            private final boolean[] pending;
+            private int             remaining;
+
+            LazyValues(int size) {
+                this.raw = new Object[size];
+                this.pending = new boolean[size];
+            }
+
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            final void read(int index, AbstractBinding<?, ?> binding) throws SQLException {
+                raw[index] = binding.get0((BindingGetResultSetContext) rsContext);
+                pending[index] = true;
+                remaining++;
+            }
+
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            @Override
+            public final void resolve(AbstractRecord record, int index) {
+                if (!pending[index])
+                    return;
+
+                Object value = ((AbstractBinding) lazyColumns[index]).from(raw[index], rsContext.configuration());
+                record.values[index] = value;
+                record.originals[index] = value;
+
+                raw[index] = null;
+                pending[index] = false;
+
+                if (--remaining == 0)
+                    record.lazy = null;
+            }
+
+            @Override
+            public final void resolve(AbstractRecord record) {
+                for (int i = 0; i < pending.length && remaining > 0; i++)
+                    resolve(record, i);
+            }
+
+            @Override
+            public final boolean pending(int index) {
+                return pending[index];
+            }
+        }
+
         private class CursorRecordInitialiser implements RecordOperation<AbstractRecord, SQLException> {
 
             private final Field<?>[] initialiserFields;
             private int              offset;
+            private final boolean    events;
 
-            CursorRecordInitialiser(Field<?>[] fields, int offset) {
+            CursorRecordInitialiser(Field<?>[] fields, int offset, boolean events) {
                 this.initialiserFields = fields;
                 this.offset = offset;
+                this.events = events;
             }
 
             @Override
             public AbstractRecord operate(AbstractRecord record) throws SQLException {
+
+                // Prefetched records are post-processed along with their
+                // events on the consuming thread
+                if (!events)
+                    return decode(record);
+
                 ctx.record(record);
                 listener.recordStart(ctx);
 
@@ -1669,13 +2111,8 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
 
 
-                for (int i = 0; i < initialiserFields.length; i++)
-                    setValue(record, initialiserFields[i], i);
-
-                if (intern != null)
-                    for (int i = 0; i < intern.length; i++)
-                        if (intern[i])
-                            record.intern0(i);
+                decode(record);
+                postprocess(record, initialiserFields);
 
                 ctx.record(record);
                 listener.recordEnd(ctx);
@@ -1683,6 +2120,35 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
                 return record;
             }
 
+            private final AbstractRecord decode(AbstractRecord record) throws SQLException {
+                LazyValues lazy = lazyColumns != null && initialiserFields == fields.fields
+                    ? new LazyValues(initialiserFields.length)
+                    : null;
+
+                for (int i = 0; i < initialiserFields.length; i++)
+                    if (lazy == null || lazyColumns[i] == null)
+                        setValue(record, initialiserFields[i], i);
+                    else
+                        readValue(lazy, initialiserFields[i], i);
+
+                if (lazy != null && lazy.remaining > 0)
+                    record.lazy = lazy;
+
+                return record;
+            }
+
+            private final void readValue(LazyValues lazy, Field<?> field, int index) throws SQLException {
+                try {
+                    rsContext.index(offset + index + 1);
+                    lazy.read(index, lazyColumns[index]);
+                }
+
+                // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
+                catch (Exception e) {
+                    throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
+                }
+            }
+
             /**
              * Utility method to prevent unnecessary unchecked conversions
              */
@@ -1705,7 +2171,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> implements Cu
 
                     if (nested != null) {
                         value = (T) Tools.newRecord(true, recordType, nested, ((DefaultExecuteContext) ctx).originalConfiguration())
-                                         .operate(new CursorRecordInitialiser(nested, offset + index));
+                                         .operate(new CursorRecordInitialiser(nested, offset + index, events));
 
                         offset += nested.length - 1;
                     }
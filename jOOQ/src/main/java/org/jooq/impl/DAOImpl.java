@@ -167,8 +167,9 @@ public abstract class DAOImpl<R extends UpdatableRecord<R>, P, T> implements DAO
         // Execute a batch INSERT
         if (objects.size() > 1)
 
-            // [#2536] [#3327] We cannot batch INSERT RETURNING calls yet
-            if (!FALSE.equals(settings().isReturnRecordToPojo()))
+            // [#2536] [#3327] We cannot batch INSERT RETURNING calls yet,
+            // unless they are grouped into multi-row INSERT statements
+            if (!FALSE.equals(settings().isReturnRecordToPojo()) && !TRUE.equals(settings().isBatchInsertMultiRow()))
                 for (R record : records(objects, false))
                     record.insert();
             else
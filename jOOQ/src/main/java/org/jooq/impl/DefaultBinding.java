@@ -859,7 +859,15 @@ public class DefaultBinding<T, U> implements Binding<T, U> {
 
         @Override
         public final void get(BindingGetResultSetContext<U> ctx) throws SQLException {
-            ctx.value(attach(converter().from(get0(ctx)), ctx.configuration()));
+            ctx.value(from(get0(ctx), ctx.configuration()));
+        }
+
+        /**
+         * Convert a value that has been read through
+         * {@link #get0(BindingGetResultSetContext)} to the user type.
+         */
+        final U from(T value, Configuration configuration) {
+            return attach(converter().from(value), configuration);
         }
 
         @Override
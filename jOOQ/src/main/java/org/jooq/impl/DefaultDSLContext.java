@@ -60,8 +60,8 @@ import static org.jooq.impl.Tools.EMPTY_TABLE_RECORD;
 import static org.jooq.impl.Tools.EMPTY_UPDATABLE_RECORD;
 import static org.jooq.impl.Tools.blocking;
 import static org.jooq.impl.Tools.list;
+import static org.jooq.impl.Tools.DataKey.DATA_PIPELINE;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.io.StringReader;
@@ -76,21 +76,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
 
 import org.jooq.AlterIndexOnStep;
 import org.jooq.AlterIndexStep;
@@ -188,6 +190,7 @@ import org.jooq.Meta;
 import org.jooq.Migration;
 import org.jooq.Name;
 import org.jooq.Param;
+import org.jooq.PipelinedRunnable;
 import org.jooq.Parser;
 import org.jooq.Privilege;
 // ...
@@ -278,7 +281,7 @@ import org.jooq.exception.DataAccessException;
 import org.jooq.exception.InvalidResultException;
 import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.impl.BatchCRUD.Action;
-import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.CSVScanner;
 import org.jooq.tools.jdbc.JDBCUtils;
 import org.jooq.tools.jdbc.MockCallable;
 import org.jooq.tools.jdbc.MockConfiguration;
@@ -540,7 +543,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
             T result = null;
 
-            DefaultTransactionContext ctx = new DefaultTransactionContext(configuration.derive());
+            DefaultTransactionContext ctx = new DefaultTransactionContext(Pipeline.unpipelined(configuration).derive());
             TransactionProvider provider = ctx.configuration().transactionProvider();
             TransactionListeners listeners = new TransactionListeners(ctx.configuration());
             boolean committed = false;
@@ -670,6 +673,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public <T> T connectionResult(ConnectionCallable<T> callable) {
+        Pipeline.flush(configuration());
         final Connection connection = configuration().connectionProvider().acquire();
 
         try {
@@ -697,6 +701,31 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         });
     }
 
+    @Override
+    public int[] pipelined(PipelinedRunnable runnable) {
+
+        // Queries queued in an outer scope must be executed first
+        Pipeline.flush(configuration());
+
+        Configuration c = configuration().derive();
+        Pipeline pipeline = new Pipeline(c);
+        c.data(DATA_PIPELINE, pipeline);
+
+        try {
+            runnable.run(c);
+            pipeline.flush();
+            return pipeline.counts();
+        }
+        catch (RuntimeException e) {
+            pipeline.discard();
+            throw e;
+        }
+        catch (Exception e) {
+            pipeline.discard();
+            throw new DataAccessException("Error while running PipelinedRunnable", e);
+        }
+    }
+
     @Override
     public <T> T mockResult(MockDataProvider provider, MockCallable<T> mockable) {
         try {
@@ -1461,7 +1490,7 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public Result<Record> fetchFromCSV(String string, boolean header, char delimiter) {
-        CSVReader reader = new CSVReader(new StringReader(string), delimiter);
+        CSVScanner reader = new CSVScanner(new StringReader(string), delimiter);
         List<String[]> list = null;
 
         try {
@@ -1487,45 +1516,37 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public Result<Record> fetchFromXML(String string) {
-        try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
+        return new XMLReader(this, new StringReader(string)).read();
+    }
 
-            // -----------------------------------------------------------------
-            // [JOOX #136] FIX START: Prevent OWASP attack vectors
-            try {
-                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            }
-            catch (ParserConfigurationException ignore) {}
+    @Override
+    public Stream<Record> fetchStreamFromXML(Source source) {
+        final XMLReader reader = new XMLReader(this, source.reader());
+        final Field<?>[] fields = reader.fields();
 
-            try {
-                factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<Record>() {
+            @Override
+            public boolean hasNext() {
+                return reader.hasNext();
             }
-            catch (ParserConfigurationException ignore) {}
 
-            try {
-                factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            @Override
+            public Record next() {
+                Record r = newRecord(fields);
+                r.from(reader.next());
+                return r;
             }
-            catch (ParserConfigurationException ignore) {}
 
-            // [#149] Not implemented on Android
-            try {
-                factory.setXIncludeAware(false);
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
             }
-            catch (UnsupportedOperationException ignore) {}
-
-            // [JOOX #136] FIX END
-            // -----------------------------------------------------------------
-
-            SAXParser saxParser = factory.newSAXParser();
-            // TODO: Why does the SAXParser replace \r by \n?
-
-            XMLHandler handler = new XMLHandler(this);
-            saxParser.parse(new ByteArrayInputStream(string.getBytes(configuration().charsetProvider().provide())), handler);
-            return handler.result;
-        }
-        catch (Exception e) {
-            throw new DataAccessException("Could not read the XML string", e);
-        }
+        }, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                reader.close();
+            }
+        });
     }
 
     @Override
@@ -2909,6 +2930,25 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return batchDelete(records.toArray(EMPTY_UPDATABLE_RECORD));
     }
 
+    // -------------------------------------------------------------------------
+    // XXX Bulk record operations
+    // -------------------------------------------------------------------------
+
+    @Override
+    public <R extends UpdatableRecord<?>> List<R> fetchStale(Collection<? extends R> records) {
+        return UpdatableRecords.stale(configuration(), records, false);
+    }
+
+    @Override
+    public void refresh(UpdatableRecord<?>... records) {
+        refresh(Arrays.asList(records));
+    }
+
+    @Override
+    public void refresh(Collection<? extends UpdatableRecord<?>> records) {
+        UpdatableRecords.refresh(configuration(), records);
+    }
+
     // -------------------------------------------------------------------------
     // XXX DDL Statements from existing meta data
     // -------------------------------------------------------------------------
@@ -4513,6 +4553,11 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
 
 
+    @Override
+    public Results fetchMany(ResultQuery<?>... queries) {
+        return queries(queries).fetchMany();
+    }
+
     @Override
     public <R extends Record> Results fetchMany(ResultQuery<R> query) {
         final Configuration previous = Tools.getConfiguration(query);
@@ -5006,6 +5051,26 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
         return fetchStream(table, DSL.and(conditions));
     }
 
+    @Override
+    public <R extends Record> Stream<R> fetchStreamPartitioned(Table<R> table, int partitions) {
+        return fetchStreamPartitioned(table, null, partitions);
+    }
+
+    @Override
+    public <R extends Record> Stream<R> fetchStreamPartitioned(Table<R> table, Field<?> key, int partitions) {
+        return new PartitionedFetch<>(configuration(), table, key, partitions).stream();
+    }
+
+    @Override
+    public <R extends Record> void fetchPartitioned(Table<R> table, int partitions, Consumer<? super Cursor<R>> handler) {
+        fetchPartitioned(table, null, partitions, handler);
+    }
+
+    @Override
+    public <R extends Record> void fetchPartitioned(Table<R> table, Field<?> key, int partitions, Consumer<? super Cursor<R>> handler) {
+        new PartitionedFetch<>(configuration(), table, key, partitions).fetch(handler);
+    }
+
 
 
     @Override
@@ -51,6 +51,7 @@ import static org.jooq.impl.Keywords.K_WITH;
 import static org.jooq.impl.ScopeMarkers.AFTER_LAST_TOP_LEVEL_CTE;
 import static org.jooq.impl.ScopeMarkers.BEFORE_FIRST_TOP_LEVEL_CTE;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_RENDERED_IDENTIFIERS;
 import static org.jooq.impl.Tools.DataKey.DATA_TOP_LEVEL_CTE;
 
 import java.util.ArrayDeque;
@@ -59,7 +60,10 @@ import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.jooq.BindContext;
@@ -106,6 +110,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     private boolean                       separator;
     private boolean                       newline;
     private int                           skipUpdateCounts;
+    private IdentifierCache               identifiers;
 
     // [#1632] Cached values from Settings
     RenderKeywordCase                     cachedRenderKeywordCase;
@@ -120,11 +125,18 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     int                                   cachedPrintMargin;
 
     DefaultRenderContext(Configuration configuration) {
+        this(configuration, new StringBuilder());
+    }
+
+    /**
+     * Render into a (possibly recycled) buffer, which must be empty.
+     */
+    DefaultRenderContext(Configuration configuration, StringBuilder sql) {
         super(configuration, null);
 
         Settings settings = configuration.settings();
 
-        this.sql = new StringBuilder();
+        this.sql = sql;
         this.bindValues = new QueryPartList<>();
         this.cachedRenderKeywordCase = SettingsTools.getRenderKeywordCase(settings);
         this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
@@ -545,7 +557,25 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         if (literal == null)
             return this;
 
+        // Identifiers are rendered over and over again with identical inputs.
+        // Their fully quoted, escaped, and cased rendering is cached per
+        // Configuration
+        if (identifiers == null)
+            identifiers = IdentifierCache.get(configuration(), family(), cachedRenderNameCase, renderLocale(configuration().settings()));
+
+        boolean quote = quote();
+        String rendered = identifiers.get(literal, quote);
+
+        if (rendered == null)
+            identifiers.put(literal, quote, rendered = literal0(literal, quote));
+
+        sql(rendered, true);
+        return this;
+    }
+
+    private final String literal0(String literal, boolean quote) {
         SQLDialect family = family();
+        Locale locale = renderLocale(configuration().settings());
 
         // Quoting is needed when explicitly requested...
         boolean needsQuote =
@@ -553,12 +583,12 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             // [#2367] ... but in SQLite, quoting "normal" literals is generally
             // asking for trouble, as SQLite bends the rules here, see
             // http://www.sqlite.org/lang_keywords.html for details ...
-            (family != SQLITE && quote())
+            (family != SQLITE && quote)
 
         ||
 
             // [#2367] ... yet, do quote when an identifier is a SQLite keyword
-            (family == SQLITE && SQLITE_KEYWORDS.contains(literal.toUpperCase(renderLocale(configuration().settings()))))
+            (family == SQLITE && SQLITE_KEYWORDS.contains(literal.toUpperCase(locale)))
 
         ||
 
@@ -566,11 +596,11 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             (family == SQLITE && !IDENTIFIER_PATTERN.matcher(literal).matches());
 
         if (RenderNameCase.LOWER == cachedRenderNameCase ||
-            RenderNameCase.LOWER_IF_UNQUOTED == cachedRenderNameCase && !quote())
-            literal = literal.toLowerCase(renderLocale(configuration().settings()));
+            RenderNameCase.LOWER_IF_UNQUOTED == cachedRenderNameCase && !quote)
+            literal = literal.toLowerCase(locale);
         else if (RenderNameCase.UPPER == cachedRenderNameCase ||
-                 RenderNameCase.UPPER_IF_UNQUOTED == cachedRenderNameCase && !quote())
-            literal = literal.toUpperCase(renderLocale(configuration().settings()));
+                 RenderNameCase.UPPER_IF_UNQUOTED == cachedRenderNameCase && !quote)
+            literal = literal.toUpperCase(locale);
 
         if (needsQuote) {
             char[][][] quotes = QUOTES.get(family);
@@ -578,23 +608,17 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             char start = quotes[QUOTE_START_DELIMITER][0][0];
             char end = quotes[QUOTE_END_DELIMITER][0][0];
 
-            sql(start);
-
             // [#4922] This micro optimisation does seem to have a significant
             //         effect as the replace call can be avoided in almost all
             //         situations
             if (literal.indexOf(end) > -1)
-                sql(StringUtils.replace(literal, new String(quotes[QUOTE_END_DELIMITER][0]), new String(quotes[QUOTE_END_DELIMITER_ESCAPED][0])), true);
+                return start + StringUtils.replace(literal, new String(quotes[QUOTE_END_DELIMITER][0]), new String(quotes[QUOTE_END_DELIMITER_ESCAPED][0])) + end;
             else
-                sql(literal, true);
-
-            sql(end);
+                return start + literal + end;
         }
         else {
-            sql(literal, true);
+            return literal;
         }
-
-        return this;
     }
 
     @Override
@@ -938,6 +962,60 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
     }
 
+    /**
+     * A cache of rendered identifiers for a given dialect family, name case,
+     * and locale.
+     * <p>
+     * The cache is shared by all {@link DefaultRenderContext} instances of a
+     * {@link Configuration} (and configurations derived from it), via
+     * {@link Configuration#data()}. Its size is bounded to prevent unbounded
+     * growth when rendering ad-hoc generated identifiers.
+     */
+    static final class IdentifierCache {
+
+        private static final int                  MAX_SIZE = 10000;
+
+        private final ConcurrentMap<String, String> quoted   = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, String> unquoted = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        static final IdentifierCache get(Configuration configuration, SQLDialect family, RenderNameCase nameCase, Locale locale) {
+            ConcurrentMap<Object, IdentifierCache> caches = (ConcurrentMap<Object, IdentifierCache>) configuration.data(DATA_CACHE_RENDERED_IDENTIFIERS);
+
+            if (caches == null) {
+                caches = new ConcurrentHashMap<>();
+                ConcurrentMap<Object, IdentifierCache> previous = (ConcurrentMap<Object, IdentifierCache>) configuration.data().putIfAbsent(DATA_CACHE_RENDERED_IDENTIFIERS, caches);
+
+                if (previous != null)
+                    caches = previous;
+            }
+
+            List<Object> key = Arrays.<Object>asList(family, nameCase, locale);
+            IdentifierCache result = caches.get(key);
+
+            if (result == null) {
+                result = new IdentifierCache();
+                IdentifierCache previous = caches.putIfAbsent(key, result);
+
+                if (previous != null)
+                    result = previous;
+            }
+
+            return result;
+        }
+
+        final String get(String literal, boolean quote) {
+            return (quote ? quoted : unquoted).get(literal);
+        }
+
+        final void put(String literal, boolean quote, String rendered) {
+            ConcurrentMap<String, String> map = quote ? quoted : unquoted;
+
+            if (map.size() < MAX_SIZE)
+                map.put(literal, rendered);
+        }
+    }
+
     /**
      * A query execution interception signal.
      * <p>
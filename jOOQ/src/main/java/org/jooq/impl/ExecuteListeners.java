@@ -40,13 +40,16 @@ package org.jooq.impl;
 import static java.lang.Boolean.FALSE;
 import static org.jooq.conf.InvocationOrder.REVERSE;
 import static org.jooq.impl.Tools.EMPTY_EXECUTE_LISTENER;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_EXECUTE_LISTENERS;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jooq.Configuration;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
+import org.jooq.conf.InvocationOrder;
 import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 import org.jooq.tools.JooqLogger;
@@ -63,28 +66,73 @@ final class ExecuteListeners implements ExecuteListener {
     /**
      * Generated UID
      */
-    private static final long            serialVersionUID       = 7399239846062763212L;
-    private static final ExecuteListener EMPTY_LISTENER         = new DefaultExecuteListener();
-    private static final JooqLogger      LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+    private static final long                serialVersionUID       = 7399239846062763212L;
+    private static final ExecuteListener     EMPTY_LISTENER         = new DefaultExecuteListener();
+    private static final JooqLogger          LOGGER_LISTENER_LOGGER = JooqLogger.getLogger(LoggerListener.class);
+
+    // Bits of events that are implemented by at least one listener
+    static final int                         START                  = 1 << 0;
+    static final int                         RENDER_START           = 1 << 1;
+    static final int                         RENDER_END             = 1 << 2;
+    static final int                         PREPARE_START          = 1 << 3;
+    static final int                         PREPARE_END            = 1 << 4;
+    static final int                         BIND_START             = 1 << 5;
+    static final int                         BIND_END               = 1 << 6;
+    static final int                         EXECUTE_START          = 1 << 7;
+    static final int                         EXECUTE_END            = 1 << 8;
+    static final int                         OUT_START              = 1 << 9;
+    static final int                         OUT_END                = 1 << 10;
+    static final int                         FETCH_START            = 1 << 11;
+    static final int                         RESULT_START           = 1 << 12;
+    static final int                         RECORD_START           = 1 << 13;
+    static final int                         RECORD_END             = 1 << 14;
+    static final int                         RESULT_END             = 1 << 15;
+    static final int                         FETCH_END              = 1 << 16;
+    static final int                         END                    = 1 << 17;
+    static final int                         EXCEPTION              = 1 << 18;
+    static final int                         WARNING                = 1 << 19;
+    static final int                         ALL                    = (1 << 20) - 1;
+    private static final String[]            EVENTS                 = {
+        "start", "renderStart", "renderEnd", "prepareStart", "prepareEnd", "bindStart", "bindEnd", "executeStart", "executeEnd",
+        "outStart", "outEnd", "fetchStart", "resultStart", "recordStart", "recordEnd", "resultEnd", "fetchEnd", "end",
+        "exception", "warning"
+    };
 
-    private final ExecuteListener[][]    listeners;
+    /**
+     * The events implemented by a given listener type.
+     */
+    private static final ClassValue<Integer> EVENT_MASKS            = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return mask(type);
+        }
+    };
+
+    private static final Listeners           NO_LISTENERS           = new Listeners(null, false, null, null, null, 0);
+
+    private final ExecuteListener[][]        listeners;
+    private final int                        events;
 
     // In some setups, these two events may get mixed up chronologically by the
     // Cursor. Postpone fetchEnd event until after resultEnd event, if there is
     // an open Result
-    private boolean                      resultStart;
-    private boolean                      fetchEnd;
+    private boolean                          resultStart;
+    private boolean                          fetchEnd;
 
     /**
      * Initialise the provided {@link ExecuteListener} set and return a wrapper.
      */
     static ExecuteListener get(ExecuteContext ctx) {
-        ExecuteListener[][] listeners = listeners(ctx);
+        Listeners l = cached(ctx);
+
+        if (l == null)
+            l = listeners(ctx, false);
 
-        if (listeners == null)
+        // Avoid dispatching anything if no listener implements any event
+        if (l == null || l.events == 0)
             return EMPTY_LISTENER;
         else
-            return new ExecuteListeners(listeners);
+            return new ExecuteListeners(l.listeners, l.events);
     }
 
     /**
@@ -99,10 +147,70 @@ final class ExecuteListeners implements ExecuteListener {
         return result;
     }
 
+    /**
+     * Get the listeners cached in the {@link Configuration}, if the cache is
+     * applicable.
+     * <p>
+     * Listeners can be cached only if all of them are stateless, i.e. if they
+     * are provided by {@link DefaultExecuteListenerProvider}, which always
+     * provides the same listener instance, and if no internal stateful
+     * listeners are needed. The cache is invalidated when the relevant
+     * {@link Configuration} or {@link Settings} content changes.
+     * <p>
+     * The cache is stored in the original {@link Configuration}, not in the
+     * {@link ExecuteContext#configuration()}, which is derived anew for each
+     * execution.
+     */
+    private static final Listeners cached(ExecuteContext ctx) {
+        Configuration configuration = ctx instanceof DefaultExecuteContext
+            ? ((DefaultExecuteContext) ctx).originalConfiguration()
+            : ctx.configuration();
+        Settings settings = ctx.settings();
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+
+        // [#6580] FetchServerOutputListener is stateful
+        if (SettingsTools.getFetchServerOutputSize(0, settings) > 0)
+            return null;
+
+        boolean logging = logging(settings);
+
+        // Don't bother caching anything if there are no listeners
+        if (providers.length == 0 && !logging)
+            return NO_LISTENERS;
+
+        Object cached = configuration.data(DATA_CACHE_EXECUTE_LISTENERS);
+
+        if (cached instanceof Listeners) {
+            Listeners l = (Listeners) cached;
+
+            if (l.providers == providers
+                    && l.logging == logging
+                    && l.startOrder == settings.getExecuteListenerStartInvocationOrder()
+                    && l.endOrder == settings.getExecuteListenerEndInvocationOrder())
+                return l;
+        }
+
+        for (ExecuteListenerProvider provider : providers)
+            if (provider != null && provider.getClass() != DefaultExecuteListenerProvider.class)
+                return null;
+
+        Listeners result = listeners(ctx, true);
+        configuration.data(DATA_CACHE_EXECUTE_LISTENERS, result);
+        return result;
+    }
+
+    private static final boolean logging(Settings settings) {
+
+        // [#6051] The previously used StopWatchListener is no longer included by default
+        // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
+        //         we do not DEBUG log anyway.
+        return !FALSE.equals(settings.isExecuteLogging()) && LOGGER_LISTENER_LOGGER.isDebugEnabled();
+    }
+
     /**
      * Provide delegate listeners from an <code>ExecuteContext</code>
      */
-    private static final ExecuteListener[][] listeners(ExecuteContext ctx) {
+    private static final Listeners listeners(ExecuteContext ctx, boolean cacheable) {
         List<ExecuteListener> list = null;
 
         // jOOQ-internal listeners are added first, so their results are available to user-defined listeners
@@ -112,81 +220,148 @@ final class ExecuteListeners implements ExecuteListener {
         if (SettingsTools.getFetchServerOutputSize(0, ctx.settings()) > 0)
             (list = init(list)).add(new FetchServerOutputListener());
 
-        // [#6051] The previously used StopWatchListener is no longer included by default
-        if (!FALSE.equals(ctx.settings().isExecuteLogging())) {
-
-            // [#6747] Avoid allocating the listener (and by consequence, the ExecuteListeners) if
-            //         we do not DEBUG log anyway.
-            if (LOGGER_LISTENER_LOGGER.isDebugEnabled())
-                (list = init(list)).add(new LoggerListener());
-        }
+        boolean logging = logging(ctx.settings());
+        if (logging)
+            (list = init(list)).add(new LoggerListener());
 
-        for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders())
+        ExecuteListenerProvider[] providers = ctx.configuration().executeListenerProviders();
+        for (ExecuteListenerProvider provider : providers)
 
             // Could be null after deserialisation
             if (provider != null)
                 (list = init(list)).add(provider.provide());
 
-        if (list == null)
+        if (list == null && !cacheable)
             return null;
 
-        ExecuteListener[] def = list.toArray(EMPTY_EXECUTE_LISTENER);
+        ExecuteListener[] def = list == null ? EMPTY_EXECUTE_LISTENER : list.toArray(EMPTY_EXECUTE_LISTENER);
         ExecuteListener[] rev = null;
+        int events = 0;
+
+        for (ExecuteListener listener : def)
+            if (listener != null)
+                events |= EVENT_MASKS.get(listener.getClass());
+
+        return new Listeners(
+            providers,
+            logging,
+            ctx.settings().getExecuteListenerStartInvocationOrder(),
+            ctx.settings().getExecuteListenerEndInvocationOrder(),
+            new ExecuteListener[][] {
+                ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
+                ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
+            },
+            events
+        );
+    }
+
+    /**
+     * Calculate the events that a listener type implements, i.e. that it
+     * overrides from {@link DefaultExecuteListener}.
+     */
+    private static final int mask(Class<?> type) {
+        if (!DefaultExecuteListener.class.isAssignableFrom(type))
+            return ALL;
+
+        int result = 0;
+
+        for (int i = 0; i < EVENTS.length; i++) {
+            try {
+                if (type.getMethod(EVENTS[i], ExecuteContext.class).getDeclaringClass() != DefaultExecuteListener.class)
+                    result |= 1 << i;
+            }
+            catch (Exception e) {
+                result |= 1 << i;
+            }
+        }
 
-        return new ExecuteListener[][] {
-            ctx.settings().getExecuteListenerStartInvocationOrder() != REVERSE ? def : (                     rev = Tools.reverse(def.clone())),
-            ctx.settings().getExecuteListenerEndInvocationOrder()   != REVERSE ? def : (rev != null ? rev : (rev = Tools.reverse(def.clone())))
-        };
+        return result;
     }
 
     private static final List<ExecuteListener> init(List<ExecuteListener> result) {
         return result == null ? new ArrayList<>() : result;
     }
 
-    private ExecuteListeners(ExecuteListener[][] listeners) {
+    private ExecuteListeners(ExecuteListener[][] listeners, int events) {
         this.listeners = listeners;
+        this.events = events;
+    }
+
+    /**
+     * A (possibly cached) set of listeners.
+     */
+    private static final class Listeners {
+        final ExecuteListenerProvider[] providers;
+        final boolean                   logging;
+        final InvocationOrder           startOrder;
+        final InvocationOrder           endOrder;
+        final ExecuteListener[][]       listeners;
+        final int                       events;
+
+        Listeners(
+            ExecuteListenerProvider[] providers,
+            boolean logging,
+            InvocationOrder startOrder,
+            InvocationOrder endOrder,
+            ExecuteListener[][] listeners,
+            int events
+        ) {
+            this.providers = providers;
+            this.logging = logging;
+            this.startOrder = startOrder;
+            this.endOrder = endOrder;
+            this.listeners = listeners;
+            this.events = events;
+        }
     }
 
     @Override
     public final void start(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.start(ctx);
+        if ((events & START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.start(ctx);
     }
 
     @Override
     public final void renderStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.renderStart(ctx);
+        if ((events & RENDER_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.renderStart(ctx);
     }
 
     @Override
     public final void renderEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.renderEnd(ctx);
+        if ((events & RENDER_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.renderEnd(ctx);
     }
 
     @Override
     public final void prepareStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.prepareStart(ctx);
+        if ((events & PREPARE_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.prepareStart(ctx);
     }
 
     @Override
     public final void prepareEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.prepareEnd(ctx);
+        if ((events & PREPARE_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.prepareEnd(ctx);
     }
 
     @Override
     public final void bindStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.bindStart(ctx);
+        if ((events & BIND_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.bindStart(ctx);
     }
 
     @Override
     public final void bindEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.bindEnd(ctx);
+        if ((events & BIND_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.bindEnd(ctx);
     }
 
     @Override
@@ -194,60 +369,69 @@ final class ExecuteListeners implements ExecuteListener {
         if (ctx instanceof DefaultExecuteContext)
             ((DefaultExecuteContext) ctx).incrementStatementExecutionCount();
 
-        for (ExecuteListener listener : listeners[0])
-            listener.executeStart(ctx);
+        if ((events & EXECUTE_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.executeStart(ctx);
     }
 
     @Override
     public final void executeEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.executeEnd(ctx);
+        if ((events & EXECUTE_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.executeEnd(ctx);
     }
 
     @Override
     public final void fetchStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.fetchStart(ctx);
+        if ((events & FETCH_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.fetchStart(ctx);
     }
 
     @Override
     public final void outStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.outStart(ctx);
+        if ((events & OUT_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.outStart(ctx);
     }
 
     @Override
     public final void outEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.outEnd(ctx);
+        if ((events & OUT_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.outEnd(ctx);
     }
 
     @Override
     public final void resultStart(ExecuteContext ctx) {
         resultStart = true;
 
-        for (ExecuteListener listener : listeners[0])
-            listener.resultStart(ctx);
+        if ((events & RESULT_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.resultStart(ctx);
     }
 
     @Override
     public final void recordStart(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.recordStart(ctx);
+        if ((events & RECORD_START) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.recordStart(ctx);
     }
 
     @Override
     public final void recordEnd(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.recordEnd(ctx);
+        if ((events & RECORD_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.recordEnd(ctx);
     }
 
     @Override
     public final void resultEnd(ExecuteContext ctx) {
         resultStart = false;
 
-        for (ExecuteListener listener : listeners[1])
-            listener.resultEnd(ctx);
+        if ((events & RESULT_END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.resultEnd(ctx);
 
         if (fetchEnd)
             fetchEnd(ctx);
@@ -257,26 +441,29 @@ final class ExecuteListeners implements ExecuteListener {
     public final void fetchEnd(ExecuteContext ctx) {
         if (resultStart)
             fetchEnd = true;
-        else
+        else if ((events & FETCH_END) != 0)
             for (ExecuteListener listener : listeners[1])
                 listener.fetchEnd(ctx);
     }
 
     @Override
     public final void end(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[1])
-            listener.end(ctx);
+        if ((events & END) != 0)
+            for (ExecuteListener listener : listeners[1])
+                listener.end(ctx);
     }
 
     @Override
     public final void exception(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.exception(ctx);
+        if ((events & EXCEPTION) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.exception(ctx);
     }
 
     @Override
     public final void warning(ExecuteContext ctx) {
-        for (ExecuteListener listener : listeners[0])
-            listener.warning(ctx);
+        if ((events & WARNING) != 0)
+            for (ExecuteListener listener : listeners[0])
+                listener.warning(ctx);
     }
 }
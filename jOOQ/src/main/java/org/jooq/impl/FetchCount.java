@@ -46,6 +46,7 @@ import java.sql.ResultSetMetaData;
 
 import org.jooq.Configuration;
 import org.jooq.Context;
+import org.jooq.ExecuteContext;
 import org.jooq.Field;
 import org.jooq.QueryPart;
 import org.jooq.Record1;
@@ -99,7 +100,7 @@ final class FetchCount extends AbstractResultQuery<Record1<Integer>> {
     }
 
     @Override
-    protected final Field<?>[] getFields(ResultSetMetaData rs) {
+    protected final Field<?>[] getFields(ExecuteContext ctx, ResultSetMetaData rs) {
         return count;
     }
 }
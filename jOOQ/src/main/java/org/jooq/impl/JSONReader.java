@@ -43,8 +43,8 @@ import static org.jooq.impl.DefaultDataType.getDataType;
 import static org.jooq.impl.SQLDataType.VARCHAR;
 import static org.jooq.tools.StringUtils.defaultIfBlank;
 
+import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -60,10 +60,12 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.tools.json.ContainerFactory;
-import org.jooq.tools.json.JSONParser;
+import org.jooq.tools.json.JSONPullParser;
+import org.jooq.tools.json.JSONPullParser.Event;
+import org.jooq.tools.json.ParseException;
 
 /**
- * A very simple JSON reader based on Simple JSON.
+ * A very simple JSON reader based on {@link JSONPullParser}.
  *
  * @author Johannes Bühler
  * @author Lukas Eder
@@ -71,6 +73,19 @@ import org.jooq.tools.json.JSONParser;
 @SuppressWarnings({ "unchecked" })
 final class JSONReader {
 
+    @SuppressWarnings("rawtypes")
+    private static final ContainerFactory CONTAINER_FACTORY = new ContainerFactory() {
+        @Override
+        public Map createObjectContainer() {
+            return new LinkedHashMap();
+        }
+
+        @Override
+        public List createArrayContainer() {
+            return new ArrayList();
+        }
+    };
+
     private final DSLContext ctx;
 
     JSONReader(DSLContext ctx) {
@@ -78,110 +93,175 @@ final class JSONReader {
     }
 
     final Result<Record> read(String string) {
-        return read(new StringReader(string));
+        return read(new JSONPullParser(string));
     }
 
-    @SuppressWarnings("rawtypes")
     final Result<Record> read(final Reader reader) {
+        return read(new JSONPullParser(reader));
+    }
+
+    /**
+     * Read the records one by one from the token stream, without producing a
+     * tree for the entire document.
+     */
+    private final Result<Record> read(JSONPullParser parser) {
         try {
-            Object root = new JSONParser().parse(reader, new ContainerFactory() {
-                @Override
-                public Map createObjectContainer() {
-                    return new LinkedHashMap();
-                }
-
-                @Override
-                public List createArrayContainer() {
-                    return new ArrayList();
-                }
-            });
-
-            List<Field<?>> f = new ArrayList<>();
-
-            List<?> records;
-            Result<Record> result = null;
-            Map<String, Integer> fieldIndexes = null;
-
-            if (root instanceof Map) {
-                Map<String, Object> o1 = (Map<String, Object>) root;
-                List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
-
-                if (fields != null) {
-                    for (Map<String, String> field : fields) {
-                        String catalog = field.get("catalog");
-                        String schema = field.get("schema");
-                        String table = field.get("table");
-                        String name = field.get("name");
-                        String type = field.get("type");
-
-                        f.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
+            State state = new State();
+
+            switch (parser.next()) {
+                case START_OBJECT:
+                    List<Object> deferred = null;
+
+                    while (parser.next() == Event.KEY_NAME) {
+                        String key = parser.getString();
+                        parser.next();
+
+                        if ("fields".equals(key)) {
+                            readFields(parser, state);
+                        }
+                        else if ("records".equals(key)) {
+
+                            // The fields may appear after the records
+                            if (state.result == null)
+                                deferred = (List<Object>) parser.readValue(CONTAINER_FACTORY);
+                            else
+                                readRecords(parser, state);
+                        }
+                        else {
+                            parser.skipValue();
+                        }
                     }
 
-                    result = ctx.newResult(f);
-                }
+                    if (deferred != null)
+                        for (Object record : deferred)
+                            readRecord(record, state);
+
+                    break;
+
+                case START_ARRAY:
+                    readRecords(parser, state);
+                    break;
 
-                records = (List<?>) o1.get("records");
+                default:
+                    throw new ParseException(parser.getPosition(), ParseException.ERROR_UNEXPECTED_TOKEN, parser.event());
             }
-            else {
-                records = (List<?>) root;
+
+            parser.next();
+            return state.result;
+        }
+        catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        finally {
+            try {
+                parser.close();
             }
+            catch (IOException ignore) {}
+        }
+    }
 
-            for (Object o3 : records) {
-                if (o3 instanceof Map) {
-                    Map<String, Object> record = (Map<String, Object>) o3;
-                    String[] values = new String[record.size()];
+    private final void readFields(JSONPullParser parser, State state) throws IOException, ParseException {
+        List<Map<String, String>> fields = (List<Map<String, String>>) parser.readValue(CONTAINER_FACTORY);
 
-                    if (result == null) {
-                        if (f.isEmpty())
-                            for (String name : record.keySet())
-                                f.add(field(name(name), VARCHAR));
+        if (fields != null) {
+            for (Map<String, String> field : fields) {
+                String catalog = field.get("catalog");
+                String schema = field.get("schema");
+                String table = field.get("table");
+                String name = field.get("name");
+                String type = field.get("type");
 
-                        result = ctx.newResult(f);
-                    }
+                state.f.add(field(name(catalog, schema, table, name), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
+            }
 
-                    if (fieldIndexes == null) {
-                        fieldIndexes = new HashMap<>();
+            state.result = ctx.newResult(state.f);
+        }
+    }
 
-                        int i = 0;
-                        for (String name : record.keySet())
-                            fieldIndexes.put(name, i++);
-                    }
+    private final void readRecords(JSONPullParser parser, State state) throws IOException, ParseException {
+        if (parser.event() != Event.START_ARRAY) {
+            parser.skipValue();
+            return;
+        }
 
-                    for (Entry<String, Object> entry : record.entrySet())
-                        values[fieldIndexes.get(entry.getKey())] = "" + entry.getValue();
+        List<Object> values = new ArrayList<>();
 
-                    Record r = ctx.newRecord(f);
-                    r.from(values);
-                    result.add(r);
-                }
-                else {
-                    List record = (List) o3;
+        for (Event e = parser.next(); e != Event.END_ARRAY; e = parser.next()) {
 
-                    if (result == null) {
-                        if (f.isEmpty())
-                            f.addAll(Arrays.asList(Tools.fields(record.size())));
+            // Array records are the default format. They are read without
+            // producing any intermediary containers
+            if (e == Event.START_ARRAY) {
+                values.clear();
 
-                        result = ctx.newResult(f);
-                    }
+                while (parser.next() != Event.END_ARRAY)
+                    values.add(parser.readValue(CONTAINER_FACTORY));
 
-                    Record r = ctx.newRecord(f);
+                readArrayRecord(values, state);
+            }
+            else {
+                readRecord(parser.readValue(CONTAINER_FACTORY), state);
+            }
+        }
+    }
 
-                    // [#8829] LoaderImpl expects binary data to be encoded in base64,
-                    //         not according to org.jooq.tools.Convert
-                    for (int i = 0; i < f.size(); i++)
-                        if (f.get(i).getType() == byte[].class && record.get(i) instanceof String)
-                            record.set(i, DatatypeConverter.parseBase64Binary((String) record.get(i)));
+    private final void readRecord(Object o3, State state) {
+        if (o3 instanceof Map)
+            readObjectRecord((Map<String, Object>) o3, state);
+        else
+            readArrayRecord((List<Object>) o3, state);
+    }
 
-                    r.from(record);
-                    result.add(r);
-                }
-            }
+    private final void readObjectRecord(Map<String, Object> record, State state) {
+        String[] values = new String[record.size()];
+
+        if (state.result == null) {
+            if (state.f.isEmpty())
+                for (String name : record.keySet())
+                    state.f.add(field(name(name), VARCHAR));
 
-            return result;
+            state.result = ctx.newResult(state.f);
         }
-        catch (Exception e) {
-            throw new RuntimeException(e);
+
+        if (state.fieldIndexes == null) {
+            state.fieldIndexes = new HashMap<>();
+
+            int i = 0;
+            for (String name : record.keySet())
+                state.fieldIndexes.put(name, i++);
         }
+
+        for (Entry<String, Object> entry : record.entrySet())
+            values[state.fieldIndexes.get(entry.getKey())] = "" + entry.getValue();
+
+        Record r = ctx.newRecord(state.f);
+        r.from(values);
+        state.result.add(r);
     }
-}
 
+    private final void readArrayRecord(List<Object> record, State state) {
+        if (state.result == null) {
+            if (state.f.isEmpty())
+                state.f.addAll(Arrays.asList(Tools.fields(record.size())));
+
+            state.result = ctx.newResult(state.f);
+        }
+
+        Record r = ctx.newRecord(state.f);
+        Object[] values = record.toArray();
+
+        // [#8829] LoaderImpl expects binary data to be encoded in base64,
+        //         not according to org.jooq.tools.Convert
+        for (int i = 0; i < state.f.size() && i < values.length; i++)
+            if (state.f.get(i).getType() == byte[].class && values[i] instanceof String)
+                values[i] = DatatypeConverter.parseBase64Binary((String) values[i]);
+
+        r.from(values);
+        state.result.add(r);
+    }
+
+    private static final class State {
+        final List<Field<?>> f = new ArrayList<>();
+        Result<Record>       result;
+        Map<String, Integer> fieldIndexes;
+    }
+}
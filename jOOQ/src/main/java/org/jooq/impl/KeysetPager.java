@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.blocking;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+
+/**
+ * An iterator fetching the records of a {@link SelectQueryImpl} page by page
+ * using keyset pagination.
+ *
+ * @author Lukas Eder
+ */
+final class KeysetPager<R extends Record> implements Iterator<R> {
+
+    private final SelectQueryImpl<R>     query;
+    private final List<Field<?>>         orderBy;
+    private final int                    pageSize;
+    private final boolean                prefetch;
+    private int[]                        indexes;
+    private Result<R>                    page;
+    private int                          index;
+    private CompletableFuture<Result<R>> next;
+    private boolean                      last;
+
+    KeysetPager(SelectQueryImpl<R> query, int pageSize, boolean prefetch) {
+        if (pageSize <= 0)
+            throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+
+        this.query = query;
+        this.orderBy = query.getOrderBy().fields();
+        this.pageSize = pageSize;
+        this.prefetch = prefetch;
+    }
+
+    final Stream<R> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    @Override
+    public final boolean hasNext() {
+        while (page == null || index >= page.size()) {
+            if (page == null)
+                page = query.fetchPage(null, pageSize);
+            else if (last)
+                return false;
+            else
+                page = nextPage();
+
+            index = 0;
+            last = page.size() < pageSize;
+
+            if (prefetch && !last) {
+                Field<?>[] seekValues = seekValues(page);
+
+                next = CompletableFuture.supplyAsync(
+                    blocking(() -> query.fetchPage(seekValues, pageSize)),
+                    query.configuration().executorProvider().provide()
+                );
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public final R next() {
+        if (!hasNext())
+            throw new NoSuchElementException("There are no more records to fetch from this Stream");
+
+        return page.get(index++);
+    }
+
+    private final Result<R> nextPage() {
+        if (next == null)
+            return query.fetchPage(seekValues(page), pageSize);
+
+        try {
+            return next.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw e;
+        }
+        finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Derive the seek values for the next page from the last record of a page.
+     */
+    private final Field<?>[] seekValues(Result<R> p) {
+        if (indexes == null) {
+            indexes = new int[orderBy.size()];
+
+            for (int i = 0; i < indexes.length; i++)
+                if ((indexes[i] = p.indexOf(orderBy.get(i))) == -1)
+                    throw new IllegalStateException("Keyset pagination requires all ORDER BY columns to be projected: " + orderBy.get(i));
+        }
+
+        R record = p.get(p.size() - 1);
+        Field<?>[] result = new Field[indexes.length];
+
+        for (int i = 0; i < indexes.length; i++)
+            result[i] = Tools.field(record.get(indexes[i]), orderBy.get(i));
+
+        return result;
+    }
+}
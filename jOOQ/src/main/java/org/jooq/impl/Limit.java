@@ -470,6 +470,17 @@ final class Limit extends AbstractQueryPart {
         this.rendersParams |= numberOfRows.isInline();
     }
 
+    final void clear() {
+        this.numberOfRows = null;
+        this.numberOfRowsOrMax = MAX;
+        this.offset = null;
+        this.offsetOrZero = ZERO;
+        this.offsetPlusOne = ONE;
+        this.rendersParams = false;
+        this.withTies = false;
+        this.percent = false;
+    }
+
     final void setPercent(boolean percent) {
         this.percent = percent;
     }
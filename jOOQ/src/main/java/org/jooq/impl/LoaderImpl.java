@@ -38,6 +38,7 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 // ...
 import static org.jooq.SQLDialect.MARIADB;
 // ...
@@ -46,6 +47,7 @@ import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.combine;
 import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -98,7 +100,8 @@ import org.jooq.exception.LoaderConfigurationException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
-import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.CSVScanner;
+import org.jooq.tools.csv.ParallelCSVReader;
 import org.jooq.tools.jdbc.DefaultPreparedStatement;
 
 import org.xml.sax.InputSource;
@@ -122,6 +125,11 @@ final class LoaderImpl<R extends Record> implements
     private static final JooqLogger      log                              = JooqLogger.getLogger(LoaderImpl.class);
     private static final Set<SQLDialect> NO_SUPPORT_ROWCOUNT_ON_DUPLICATE = SQLDialect.supportedBy(MARIADB, MYSQL);
 
+    /**
+     * The minimum file size in bytes for CSV files to be parsed in parallel.
+     */
+    private static final long            PARALLEL_CSV_THRESHOLD           = 4 * ParallelCSVReader.DEFAULT_CHUNK_SIZE;
+
     // Configuration constants
     // -----------------------
     private static final int             ON_DUPLICATE_KEY_ERROR           = 0;
@@ -160,9 +168,12 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private boolean                      bulkNative;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
+    private File                         inputFile;
+    private Charset                      inputCharset;
 
     // CSV configuration data
     // ----------------------
@@ -298,6 +309,12 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> bulkNative() {
+        bulkNative = true;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -357,17 +374,26 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final LoaderImpl<R> loadCSV(File file) {
-        return loadCSV(Source.of(file));
+        return loadCSV(file, Charset.defaultCharset(), Source.of(file));
     }
 
     @Override
     public final LoaderImpl<R> loadCSV(File file, String charsetName) {
-        return loadCSV(Source.of(file, charsetName));
+        Charset cs = null;
+
+        try {
+            cs = Charset.forName(charsetName);
+        }
+
+        // The Source will report unsupported character sets
+        catch (IllegalArgumentException ignore) {}
+
+        return loadCSV(file, cs, Source.of(file, charsetName));
     }
 
     @Override
     public final LoaderImpl<R> loadCSV(File file, Charset cs) {
-        return loadCSV(Source.of(file, cs));
+        return loadCSV(file, cs, Source.of(file, cs));
     }
 
     @Override
@@ -409,6 +435,15 @@ final class LoaderImpl<R extends Record> implements
     public final LoaderImpl<R> loadCSV(Source s) {
         content = CONTENT_CSV;
         input = s;
+        inputFile = null;
+        inputCharset = null;
+        return this;
+    }
+
+    private final LoaderImpl<R> loadCSV(File file, Charset cs, Source s) {
+        loadCSV(s);
+        inputFile = file;
+        inputCharset = cs;
         return this;
     }
 
@@ -464,15 +499,21 @@ final class LoaderImpl<R extends Record> implements
 
     @Override
     public final LoaderImpl<R> loadXML(InputSource s) {
-        content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        if (s.getCharacterStream() != null)
+            return loadXML(Source.of(s.getCharacterStream()));
+        else if (s.getByteStream() != null && s.getEncoding() != null)
+            return loadXML(Source.of(s.getByteStream(), s.getEncoding()));
+        else if (s.getByteStream() != null)
+            return loadXML(Source.of(s.getByteStream()));
+        else
+            throw new UnsupportedOperationException("Only InputSources providing a character stream or a byte stream are supported");
     }
 
     @Override
     public final LoaderImpl<R> loadXML(Source s) {
         content = CONTENT_XML;
         input = s;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        return this;
     }
 
     @Override
@@ -672,7 +713,7 @@ final class LoaderImpl<R extends Record> implements
         if (content == CONTENT_CSV)
             executeCSV();
         else if (content == CONTENT_XML)
-            throw new UnsupportedOperationException();
+            executeXML();
         else if (content == CONTENT_JSON)
             executeJSON();
         else if (content == CONTENT_ARRAYS)
@@ -706,25 +747,66 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
-    private final void executeCSV() {
-        CSVReader reader = null;
+    private final void executeXML() {
+        XMLReader reader = null;
+
+        try {
+
+            // Unlike the JSON format, the XML format can be streamed. Records
+            // are read one by one while loading
+            reader = new XMLReader(configuration.dsl(), input.reader());
+            source = reader.fields();
+            executeSQL(reader);
+        }
+        finally {
+            if (reader != null)
+                reader.close();
+        }
+    }
+
+    private final void executeCSV() throws IOException {
+        Iterator<String[]> reader = null;
 
         try {
             if (ignoreRows == 1) {
-                reader = new CSVReader(input.reader(), separator, quote, 0);
-                source = Tools.fieldsByName(reader.next());
+                reader = csvReader(0);
+                source = Tools.fieldsByName(reader.hasNext() ? reader.next() : null);
             }
             else {
-                reader = new CSVReader(input.reader(), separator, quote, ignoreRows);
+                reader = csvReader(ignoreRows);
             }
 
             executeSQL(reader);
         }
         finally {
-            safeClose(reader);
+            safeClose((Closeable) reader);
         }
     }
 
+    private final Iterator<String[]> csvReader(int skip) throws IOException {
+
+        // Large files are parsed in chunks, in parallel, while loading. Rows of
+        // smaller inputs are scanned into a reused array, which is copied by
+        // rowStart() anyway
+        if (inputFile != null
+                && inputCharset != null
+                && inputFile.length() >= PARALLEL_CSV_THRESHOLD
+                && ParallelCSVReader.supports(inputCharset, separator, quote, CSVParser.DEFAULT_ESCAPE_CHARACTER))
+            return new ParallelCSVReader(
+                inputFile,
+                inputCharset,
+                separator,
+                quote,
+                CSVParser.DEFAULT_ESCAPE_CHARACTER,
+                skip,
+                ParallelCSVReader.DEFAULT_CHUNK_SIZE,
+                Runtime.getRuntime().availableProcessors(),
+                configuration.executorProvider().provide()
+            );
+        else
+            return new CSVScanner(input.reader(), separator, quote, CSVParser.DEFAULT_ESCAPE_CHARACTER, skip).reuseRows(true);
+    }
+
     private final void executeRows() {
         executeSQL(arrays);
     }
@@ -776,7 +858,17 @@ final class LoaderImpl<R extends Record> implements
             public void run(Connection connection) throws Exception {
                 Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
 
-                if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+                // Native bulk loading doesn't support any ON DUPLICATE KEY
+                // semantics, so the INSERT based implementation is used instead
+                NativeBulkLoader loader = bulkNative && onDuplicate == ON_DUPLICATE_KEY_ERROR
+                    ? NativeBulkLoader.of(c, connection)
+                    : null;
+
+                if (loader != null) {
+                    executeNative(iterator, c.dsl(), loader);
+                }
+
+                else if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
                     executeSQL(iterator, c.dsl());
                 }
 
@@ -809,31 +901,7 @@ final class LoaderImpl<R extends Record> implements
         execution: {
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
-
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
-
-                    rowCtx.row(row);
-                    if (onRowStart != null) {
-                        onRowStart.row(rowCtx);
-                        row = rowCtx.row();
-                    }
+                    row = rowStart(row);
 
                     // TODO: In batch mode, we can probably optimise this by not creating
                     // new statements every time, just to convert bind values to their
@@ -966,6 +1034,10 @@ final class LoaderImpl<R extends Record> implements
             // execution:
         }
 
+        commitOrRollback();
+    }
+
+    private final void commitOrRollback() throws SQLException {
         // Rollback on errors in COMMIT_ALL mode
         try {
             if (commit == COMMIT_ALL) {
@@ -988,6 +1060,196 @@ final class LoaderImpl<R extends Record> implements
         }
     }
 
+    private final Object[] rowStart(Object[] row) {
+
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = DatatypeConverter.parseBase64Binary((String) row[i]);
+
+        rowCtx.row(row);
+        if (onRowStart != null) {
+            onRowStart.row(rowCtx);
+            row = rowCtx.row();
+        }
+
+        return row;
+    }
+
+    private final void executeNative(Iterator<? extends Object[]> iterator, DSLContext ctx, NativeBulkLoader loader) throws SQLException {
+        Object[] row = null;
+
+        execution: {
+            while (iterator.hasNext() && ((row = iterator.next()) != null)) {
+
+                // Fields may be known only after reading the first row
+                if (fields == null)
+                    fields0(row);
+
+                // The fallback processes the unprocessed first row itself
+                if (!loader.supports(fields)) {
+                    log.debug("Native bulk loading", "Data types not supported. Falling back to INSERT statements");
+
+                    executeSQL(new NativeBulkFallbackIterator(row, iterator), ctx);
+                    return;
+                }
+
+                row = rowStart(row);
+
+                List<Field<?>> columns = new ArrayList<>(fields.length);
+                for (Field<?> field : fields)
+                    if (field != null)
+                        columns.add(field);
+
+                NativeBulkRows rows = new NativeBulkRows(iterator, loader, row);
+                String sql = loader.sql(ctx, table, columns);
+
+                try {
+                    long count = loader.load(sql, rows);
+
+                    stored += count;
+                    ignored += rows.rows - count;
+                    executed++;
+
+                    if (commit == COMMIT_AFTER)
+                        if (executed % commitAfter == 0)
+                            commit();
+                }
+                catch (SQLException e) {
+                    errors.add(new LoaderErrorImpl(Tools.translate(sql, e), rows.last, processed - 1, null));
+                    ignored += rows.rows;
+
+                    if (onError == ON_ERROR_ABORT)
+                        break execution;
+                }
+            }
+        }
+
+        commitOrRollback();
+    }
+
+    /**
+     * An iterator that re-emits an already consumed first row.
+     */
+    private static final class NativeBulkFallbackIterator implements Iterator<Object[]> {
+        private final Iterator<? extends Object[]> delegate;
+        private Object[]                           first;
+
+        NativeBulkFallbackIterator(Object[] first, Iterator<? extends Object[]> delegate) {
+            this.first = first;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            return first != null || delegate.hasNext();
+        }
+
+        @Override
+        public final Object[] next() {
+            if (first == null)
+                return delegate.next();
+
+            Object[] result = first;
+            first = null;
+            return result;
+        }
+    }
+
+    /**
+     * A stream of CSV encoded rows for a single native bulk loading operation.
+     * <p>
+     * Rows are read lazily from the iterator, and encoded in chunks.
+     */
+    private final class NativeBulkRows extends InputStream {
+        private final Iterator<? extends Object[]> iterator;
+        private final NativeBulkLoader             loader;
+        private final int                          limit;
+        private final StringBuilder                sb;
+        private Object[]                           first;
+        private byte[]                             buffer;
+        private int                                position;
+        int                                        rows;
+        Object[]                                   last;
+
+        NativeBulkRows(Iterator<? extends Object[]> iterator, NativeBulkLoader loader, Object[] first) {
+            this.iterator = iterator;
+            this.loader = loader;
+            this.limit = bulk == BULK_AFTER ? bulkAfter : Integer.MAX_VALUE;
+            this.sb = new StringBuilder();
+            this.first = first;
+            this.buffer = new byte[0];
+        }
+
+        private final boolean fill() {
+            sb.setLength(0);
+
+            while (sb.length() < 8192 && rows < limit) {
+                Object[] row;
+
+                if (first != null) {
+                    row = first;
+                    first = null;
+                }
+                else if (iterator.hasNext() && ((row = iterator.next()) != null))
+                    row = rowStart(row);
+                else
+                    break;
+
+                try {
+                    loader.appendRow(sb, fields, row);
+                    processed++;
+                    rows++;
+                    last = row;
+                }
+                finally {
+                    if (onRowEnd != null)
+                        onRowEnd.row(rowCtx);
+                }
+            }
+
+            buffer = sb.toString().getBytes(UTF_8);
+            position = 0;
+            return buffer.length > 0;
+        }
+
+        @Override
+        public final int read() {
+            if (position >= buffer.length && !fill())
+                return -1;
+
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public final int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+
+            if (position >= buffer.length && !fill())
+                return -1;
+
+            int result = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, result);
+            position += result;
+            return result;
+        }
+    }
+
     private final void commit() throws SQLException {
         Connection connection = configuration.connectionProvider().acquire();
 
@@ -37,20 +37,28 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Tools.DataCacheKey.DATA_CACHE_META_DATA_FIELDS;
 
 import java.io.Serializable;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
 
 import org.jooq.Configuration;
 import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Name;
 import org.jooq.Record;
+import org.jooq.conf.Settings;
 import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.tools.JooqLogger;
+import org.jooq.impl.Tools.Cache;
 import org.jooq.tools.StringUtils;
 
 /**
@@ -74,6 +82,7 @@ final class MetaDataFieldProvider implements Serializable {
      */
     private static final long       serialVersionUID = -8482521025536063609L;
     private static final JooqLogger log              = JooqLogger.getLogger(MetaDataFieldProvider.class);
+    private static final int        MAX_CACHED       = 1024;
 
     private final Fields<Record>    fields;
 
@@ -81,6 +90,48 @@ final class MetaDataFieldProvider implements Serializable {
         this.fields = init(configuration, meta);
     }
 
+    /**
+     * Get the fields for a {@link ResultSetMetaData} object, possibly from the
+     * {@link Configuration}'s cache.
+     * <p>
+     * If {@link Settings#isCacheMetaDataFields()} is active, fields are cached
+     * by the dialect, the <code>sql</code> key, and a signature consisting of
+     * the column labels and JDBC types, which is cheap to obtain from most
+     * JDBC drivers.
+     * <p>
+     * SQL strings with inlined bind values are not cached, and at most
+     * {@link #MAX_CACHED} entries are cached per {@link Configuration}, as SQL
+     * strings are not necessarily from a bounded set.
+     *
+     * @param configuration The original configuration, which outlives the
+     *            execution.
+     * @param sql The SQL string that produced the meta data, or
+     *            <code>null</code> if unknown, in case of which no caching is
+     *            applied.
+     */
+    static final Field<?>[] fields(final Configuration configuration, Object sql, final ResultSetMetaData meta) {
+        if (sql == null
+                || !TRUE.equals(configuration.settings().isCacheMetaDataFields())
+                || getParamType(configuration.settings()) == INLINED)
+            return new MetaDataFieldProvider(configuration, meta).getFields();
+
+        Signature signature = Signature.of(meta);
+        if (signature == null)
+            return new MetaDataFieldProvider(configuration, meta).getFields();
+
+        Object key = Cache.key(Cache.key(configuration.dialect(), sql), signature);
+        Map<?, ?> cache = (Map<?, ?>) configuration.data(DATA_CACHE_META_DATA_FIELDS);
+        if (cache != null && cache.size() >= MAX_CACHED && !cache.containsKey(key))
+            return new MetaDataFieldProvider(configuration, meta).getFields();
+
+        return Cache.run(configuration, new F0<Field<?>[]>() {
+            @Override
+            public Field<?>[] apply() {
+                return new MetaDataFieldProvider(configuration, meta).getFields();
+            }
+        }, DATA_CACHE_META_DATA_FIELDS, key);
+    }
+
     private static Fields<Record> init(Configuration configuration, ResultSetMetaData meta) {
         Field<?>[] fields;
         int columnCount = 0;
@@ -175,4 +226,59 @@ final class MetaDataFieldProvider implements Serializable {
     public String toString() {
         return fields.toString();
     }
+
+    /**
+     * A cheap signature of a {@link ResultSetMetaData} object, which is used to
+     * invalidate cached fields if the meta data of a query changes.
+     */
+    private static final class Signature implements Serializable {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -5212436004834539407L;
+        private final String[]    labels;
+        private final int[]       types;
+
+        private Signature(String[] labels, int[] types) {
+            this.labels = labels;
+            this.types = types;
+        }
+
+        static final Signature of(ResultSetMetaData meta) {
+            try {
+                int columnCount = meta.getColumnCount();
+                String[] labels = new String[columnCount];
+                int[] types = new int[columnCount];
+
+                for (int i = 0; i < columnCount; i++) {
+                    labels[i] = meta.getColumnLabel(i + 1);
+                    types[i] = meta.getColumnType(i + 1);
+                }
+
+                return new Signature(labels, types);
+            }
+
+            // [#650] Don't cache anything if the meta data is not available
+            catch (SQLException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(labels) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Signature))
+                return false;
+
+            Signature other = (Signature) obj;
+            return Arrays.equals(labels, other.labels) && Arrays.equals(types, other.types);
+        }
+    }
 }
@@ -0,0 +1,385 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.name;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.DSLContext;
+import org.jooq.DataType;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Table;
+import org.jooq.tools.JooqLogger;
+import org.jooq.tools.jdbc.JDBCUtils;
+import org.jooq.tools.reflect.Reflect;
+import org.jooq.tools.reflect.ReflectException;
+
+/**
+ * A dialect specific, native bulk loading facility, which streams CSV encoded
+ * rows to the server.
+ * <p>
+ * There is no compile time dependency on any JDBC driver. The driver specific
+ * APIs are looked up and invoked reflectively.
+ *
+ * @author Lukas Eder
+ */
+abstract class NativeBulkLoader {
+
+    private static final JooqLogger log = JooqLogger.getLogger(NativeBulkLoader.class);
+
+    /**
+     * Get a native bulk loader for a connection, or <code>null</code> if no
+     * native bulk loader is available for the connection's dialect or driver.
+     */
+    static final NativeBulkLoader of(Configuration configuration, Connection connection) {
+        try {
+            switch (configuration.family()) {
+                case POSTGRES: {
+                    Class<?> pgConnection = driverClass(connection, "org.postgresql.PGConnection");
+
+                    if (pgConnection != null && connection.isWrapperFor(pgConnection))
+                        return new PostgresCopy(connection.unwrap(pgConnection));
+
+                    break;
+                }
+
+                case MARIADB:
+                case MYSQL: {
+                    Statement s = connection.createStatement();
+
+                    try {
+                        for (String name : MySQLLoadData.STATEMENT_TYPES) {
+                            Class<?> statement = driverClass(connection, name);
+
+                            if (statement != null && s.isWrapperFor(statement))
+                                return new MySQLLoadData(connection, statement);
+                        }
+                    }
+                    finally {
+                        JDBCUtils.safeClose(s);
+                    }
+
+                    break;
+                }
+            }
+        }
+        catch (SQLException e) {
+            log.debug("Native bulk loading", "Cannot look up native bulk loading API: " + e.getMessage());
+        }
+
+        return null;
+    }
+
+    private static final Class<?> driverClass(Object driverObject, String name) {
+        try {
+            return Class.forName(name, false, driverObject.getClass().getClassLoader());
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether all the argument fields can be loaded natively.
+     */
+    abstract boolean supports(Field<?>[] fields);
+
+    /**
+     * Render the native bulk loading statement for a table's fields.
+     */
+    abstract String sql(DSLContext ctx, Table<?> table, List<Field<?>> fields);
+
+    /**
+     * Load CSV encoded rows using a native bulk loading statement.
+     *
+     * @return The number of loaded rows.
+     */
+    abstract long load(String sql, InputStream data) throws SQLException;
+
+    /**
+     * Append a non-<code>null</code> value in its CSV encoding.
+     */
+    abstract void appendValue(StringBuilder sb, Object value);
+
+    /**
+     * Append a <code>null</code> value in its CSV encoding.
+     */
+    abstract void appendNull(StringBuilder sb);
+
+    /**
+     * Append a single CSV encoded row, terminated by a newline.
+     */
+    final void appendRow(StringBuilder sb, Field<?>[] fields, Object[] row) {
+        boolean first = true;
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null)
+                continue;
+
+            if (!first)
+                sb.append(',');
+
+            Object value = i < row.length ? databaseValue(fields[i], row[i]) : null;
+
+            if (value == null)
+                appendNull(sb);
+            else
+                appendValue(sb, value);
+
+            first = false;
+        }
+
+        sb.append('\n');
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Object databaseValue(Field<?> field, Object value) {
+        Object result = ((Converter) field.getConverter()).to(field.getDataType().convert(value));
+
+        if (result instanceof EnumType)
+            return ((EnumType) result).getLiteral();
+        else
+            return result;
+    }
+
+    static final void appendQuoted(StringBuilder sb, String string) {
+        sb.append('"');
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            if (c == '"')
+                sb.append('"');
+
+            sb.append(c);
+        }
+
+        sb.append('"');
+    }
+
+    static final String columns(DSLContext ctx, List<Field<?>> fields) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0)
+                sb.append(", ");
+
+            sb.append(ctx.render(name(fields.get(i).getName())));
+        }
+
+        return sb.toString();
+    }
+
+    static final SQLException sqlException(ReflectException e) {
+        Throwable cause = e.getCause();
+
+        if (cause instanceof InvocationTargetException)
+            cause = cause.getCause();
+
+        if (cause instanceof SQLException)
+            return (SQLException) cause;
+        else
+            return new SQLException("Error while invoking native bulk loading API", cause);
+    }
+
+    /**
+     * PostgreSQL's <code>COPY .. FROM STDIN</code> through the driver's
+     * <code>CopyManager</code>.
+     */
+    private static final class PostgresCopy extends NativeBulkLoader {
+
+        private final Object pgConnection;
+
+        PostgresCopy(Object pgConnection) {
+            this.pgConnection = pgConnection;
+        }
+
+        @Override
+        final boolean supports(Field<?>[] fields) {
+            for (Field<?> field : fields)
+                if (field != null && !supports(field))
+                    return false;
+
+            return true;
+        }
+
+        /**
+         * Whether values of a field have a correct text representation in
+         * PostgreSQL's CSV format, through {@link #appendValue(StringBuilder, Object)}.
+         */
+        private static final boolean supports(Field<?> field) {
+            DataType<?> dataType = field.getDataType();
+            Class<?> type = field.getConverter().fromType();
+
+            if (dataType.isArray() || dataType.isUDT() || dataType.isInterval())
+                return false;
+
+            // Nested records, embeddables, MULTISET values, OTHER, etc.
+            else if (type == Object.class || type.isArray() && type != byte[].class)
+                return false;
+            else if (Record.class.isAssignableFrom(type) || Result.class.isAssignableFrom(type))
+                return false;
+            else
+                return true;
+        }
+
+        @Override
+        final String sql(DSLContext ctx, Table<?> table, List<Field<?>> fields) {
+            return "copy " + ctx.render(table) + " (" + columns(ctx, fields) + ") from stdin with (format csv)";
+        }
+
+        @Override
+        final long load(String sql, InputStream data) throws SQLException {
+            if (log.isDebugEnabled())
+                log.debug("Native bulk loading", sql);
+
+            try {
+                return Reflect.on(pgConnection).call("getCopyAPI").call("copyIn", sql, data).<Long> get();
+            }
+            catch (ReflectException e) {
+                throw sqlException(e);
+            }
+        }
+
+        @Override
+        final void appendValue(StringBuilder sb, Object value) {
+            if (value instanceof byte[]) {
+                byte[] bytes = (byte[]) value;
+                sb.append("\\x");
+
+                for (byte b : bytes)
+                    sb.append(Character.forDigit((b >> 4) & 0xF, 16))
+                      .append(Character.forDigit(b & 0xF, 16));
+            }
+            else if (value instanceof Boolean)
+                sb.append(((Boolean) value) ? 't' : 'f');
+            else
+                appendQuoted(sb, value.toString());
+        }
+
+        @Override
+        final void appendNull(StringBuilder sb) {
+
+            // Unquoted empty strings are NULL values in PostgreSQL's CSV format
+        }
+    }
+
+    /**
+     * MySQL's and MariaDB's <code>LOAD DATA LOCAL INFILE</code> with a streamed
+     * input, through the driver's statement API.
+     */
+    private static final class MySQLLoadData extends NativeBulkLoader {
+
+        static final String[]    STATEMENT_TYPES = {
+            "com.mysql.cj.jdbc.JdbcStatement",
+            "com.mysql.jdbc.Statement",
+            "org.mariadb.jdbc.MariaDbStatement"
+        };
+
+        private final Connection connection;
+        private final Class<?>   statementType;
+
+        MySQLLoadData(Connection connection, Class<?> statementType) {
+            this.connection = connection;
+            this.statementType = statementType;
+        }
+
+        @Override
+        final boolean supports(Field<?>[] fields) {
+            for (Field<?> field : fields)
+                if (field != null && field.getDataType().isBinary())
+                    return false;
+
+            return true;
+        }
+
+        @Override
+        final String sql(DSLContext ctx, Table<?> table, List<Field<?>> fields) {
+            return "load data local infile 'jooq.csv' into table " + ctx.render(table)
+                + " character set utf8mb4"
+                + " fields terminated by ',' optionally enclosed by '\"' escaped by ''"
+                + " lines terminated by '\\n'"
+                + " (" + columns(ctx, fields) + ")";
+        }
+
+        @Override
+        final long load(String sql, InputStream data) throws SQLException {
+            if (log.isDebugEnabled())
+                log.debug("Native bulk loading", sql);
+
+            Statement s = connection.createStatement();
+
+            try {
+                Reflect.on(s.unwrap(statementType)).call("setLocalInfileInputStream", data);
+                return s.executeUpdate(sql);
+            }
+            catch (ReflectException e) {
+                throw sqlException(e);
+            }
+            finally {
+                JDBCUtils.safeClose(s);
+            }
+        }
+
+        @Override
+        final void appendValue(StringBuilder sb, Object value) {
+            if (value instanceof Boolean)
+                sb.append(((Boolean) value) ? '1' : '0');
+            else
+                appendQuoted(sb, value.toString());
+        }
+
+        @Override
+        final void appendNull(StringBuilder sb) {
+
+            // With a non-empty ENCLOSED BY clause, the unquoted word NULL is a NULL value
+            sb.append("NULL");
+        }
+    }
+}
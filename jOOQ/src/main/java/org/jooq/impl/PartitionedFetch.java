@@ -0,0 +1,365 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.min;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.ntile;
+import static org.jooq.impl.DSL.orderBy;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.Tools.blocking;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Table;
+import org.jooq.UniqueKey;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.Convert;
+
+/**
+ * A utility for fetching a table's contents in parallel, by splitting it into
+ * several key ranges, each of which is fetched with a separate query.
+ *
+ * @author Lukas Eder
+ */
+final class PartitionedFetch<R extends Record> {
+
+    private static final Object END         = new Object();
+    private static final int    BUFFER_SIZE = 1024;
+
+    private final Configuration configuration;
+    private final DSLContext    ctx;
+    private final Table<R>      table;
+    private final Field<?>      key;
+    private final int           partitions;
+
+    PartitionedFetch(Configuration configuration, Table<R> table, Field<?> key, int partitions) {
+        this.configuration = configuration;
+        this.ctx = DSL.using(configuration);
+        this.table = table;
+        this.key = key != null ? key : primaryKey(table);
+        this.partitions = partitions;
+    }
+
+    private static final Field<?> primaryKey(Table<?> table) {
+        UniqueKey<?> pk = table.getPrimaryKey();
+
+        if (pk == null)
+            throw new IllegalStateException("Partitioned fetching requires an explicit partition key, or a table with an explicit primary key : " + table);
+
+        // Partitioning by the first column of a composite key still produces
+        // disjoint partitions, which are exhaustive.
+        return pk.getFields().get(0);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Partitioning
+    // -------------------------------------------------------------------------
+
+    /**
+     * Calculate disjoint, exhaustive conditions, one per partition.
+     */
+    final List<Condition> conditions() {
+        return conditions(key);
+    }
+
+    private final <T> List<Condition> conditions(Field<T> k) {
+        List<T> boundaries = boundaries(k);
+        List<Condition> result = new ArrayList<>(boundaries.size() + 1);
+
+        if (boundaries.isEmpty()) {
+            result.add(noCondition());
+        }
+        else {
+            result.add(k.lt(boundaries.get(0)).or(k.isNull()));
+
+            for (int i = 1; i < boundaries.size(); i++)
+                result.add(k.ge(boundaries.get(i - 1)).and(k.lt(boundaries.get(i))));
+
+            result.add(k.ge(boundaries.get(boundaries.size() - 1)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the distinct, ascending lower bounds of all partitions but the
+     * first one.
+     */
+    private final <T> List<T> boundaries(Field<T> k) {
+        List<T> result = new ArrayList<>();
+
+        if (partitions <= 1)
+            return result;
+
+        // Numeric keys can be split evenly between their MIN and MAX values,
+        // which is cheap on indexed keys, and works in all dialects
+        if (Number.class.isAssignableFrom(k.getType())) {
+            Record2<T, T> minMax = ctx.select(min(k), max(k)).from(table).fetchOne();
+
+            if (minMax == null || minMax.value1() == null)
+                return result;
+
+            BigDecimal lo = Convert.convert(minMax.value1(), BigDecimal.class);
+            BigDecimal hi = Convert.convert(minMax.value2(), BigDecimal.class);
+            BigDecimal range = hi.subtract(lo);
+
+            for (int i = 1; i < partitions; i++)
+                add(result, k.getDataType().convert(lo.add(range
+                    .multiply(BigDecimal.valueOf(i))
+                    .divide(BigDecimal.valueOf(partitions), MathContext.DECIMAL128))));
+        }
+
+        // Other keys are split into partitions of equal size using NTILE()
+        else {
+            Field<T> pk = field(name("p", "k"), k.getDataType());
+            Field<Integer> pn = field(name("p", "n"), Integer.class);
+
+            List<T> lowerBounds = ctx
+                .select(min(pk))
+                .from(select(k.as("k"), ntile(partitions).over(orderBy(k)).as("n"))
+                    .from(table)
+                    .where(k.isNotNull())
+                    .asTable("p"))
+                .groupBy(pn)
+                .orderBy(min(pk))
+                .fetch(0, k.getType());
+
+            for (int i = 1; i < lowerBounds.size(); i++)
+                add(result, lowerBounds.get(i));
+        }
+
+        return result;
+    }
+
+    private static final <T> void add(List<T> boundaries, T boundary) {
+        if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary))
+            boundaries.add(boundary);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Fetch all partitions concurrently, passing each partition's
+     * {@link Cursor} to the handler on the partition's thread.
+     */
+    final void fetch(Consumer<? super Cursor<R>> handler) {
+        Executor executor = configuration.executorProvider().provide();
+        List<Condition> conditions = conditions();
+        CompletableFuture<?>[] futures = new CompletableFuture[conditions.size()];
+
+        for (int i = 0; i < futures.length; i++) {
+            Condition condition = conditions.get(i);
+
+            futures[i] = CompletableFuture.supplyAsync(blocking(() -> {
+                try (Cursor<R> cursor = ctx.selectFrom(table).where(condition).fetchLazy()) {
+                    handler.accept(cursor);
+                }
+
+                return true;
+            }), executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            else if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    /**
+     * Fetch all partitions concurrently, merging their records into a single
+     * {@link Stream} in no particular order.
+     */
+    final Stream<R> stream() {
+        PartitionIterator iterator = new PartitionIterator(conditions());
+
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL),
+            false
+        ).onClose(iterator::close);
+    }
+
+    /**
+     * An iterator consuming records from all partitions through a bounded
+     * queue.
+     */
+    private final class PartitionIterator implements Iterator<R> {
+
+        private final BlockingQueue<Object> queue;
+        private final CountDownLatch        done;
+        private final int                   size;
+        private volatile boolean            cancelled;
+        private int                         ended;
+        private Object                      next;
+
+        PartitionIterator(List<Condition> conditions) {
+            Executor executor = configuration.executorProvider().provide();
+
+            this.queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+            this.size = conditions.size();
+            this.done = new CountDownLatch(size);
+
+            for (Condition condition : conditions)
+                executor.execute(() -> blocking(() -> produce(condition)).get());
+        }
+
+        private final Boolean produce(Condition condition) {
+            try (Cursor<R> cursor = ctx.selectFrom(table).where(condition).fetchLazy()) {
+                while (!cancelled && cursor.hasNext())
+                    queue.put(cursor.fetchNext());
+
+                if (!cancelled)
+                    queue.put(END);
+            }
+            catch (Throwable e) {
+                try {
+                    if (e instanceof InterruptedException)
+                        Thread.currentThread().interrupt();
+                    else if (!cancelled)
+                        queue.put(e);
+                }
+                catch (InterruptedException i) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            finally {
+                done.countDown();
+            }
+
+            return true;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            while (next == null && ended < size) {
+                try {
+                    next = queue.take();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DataAccessException("Interrupted while waiting for the next partitioned record", e);
+                }
+
+                if (next == END) {
+                    next = null;
+                    ended++;
+                }
+                else if (next instanceof Throwable) {
+                    Throwable e = (Throwable) next;
+                    close();
+
+                    if (e instanceof Error)
+                        throw (Error) e;
+                    else
+                        throw (RuntimeException) e;
+                }
+            }
+
+            return next != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException("There are no more records to fetch from this Stream");
+
+            R result = (R) next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * Stop all partitions and wait for them to close their cursors.
+         */
+        final void close() {
+            cancelled = true;
+
+            try {
+                do {
+                    queue.clear();
+                }
+                while (!done.await(10, MILLISECONDS));
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while waiting for partitions to terminate", e);
+            }
+
+            queue.clear();
+            next = null;
+            ended = size;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
+import static org.jooq.impl.Tools.EMPTY_INT;
+import static org.jooq.impl.Tools.visitAll;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_COUNT_BIND_VALUES;
+import static org.jooq.impl.Tools.DataKey.DATA_PIPELINE;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Param;
+import org.jooq.PipelinedRunnable;
+import org.jooq.Query;
+import org.jooq.conf.SettingsTools;
+import org.jooq.exception.ControlFlowSignal;
+
+/**
+ * A queue of update queries that are executed in a
+ * {@link DSLContext#pipelined(PipelinedRunnable)} scope.
+ * <p>
+ * Queued queries are executed in the order in which they were queued.
+ * Consecutive queries that render the same SQL string are executed in a single
+ * JDBC batch, each one binding its own bind values.
+ *
+ * @author Lukas Eder
+ */
+final class Pipeline {
+
+    private final Configuration configuration;
+    private final int           batchSize;
+    private final List<Queued>  queue;
+    private int[]               counts;
+    private int                 count;
+
+    Pipeline(Configuration configuration) {
+        Integer b = configuration.settings().getPipelineBatchSize();
+
+        this.configuration = configuration;
+        this.batchSize = b != null ? b : 0;
+        this.queue = new ArrayList<>();
+        this.counts = EMPTY_INT;
+    }
+
+    /**
+     * Get the {@link Pipeline} of a {@link Configuration}, if any.
+     */
+    static final Pipeline pipeline(Configuration configuration) {
+        return configuration == null ? null : (Pipeline) configuration.data(DATA_PIPELINE);
+    }
+
+    /**
+     * Flush the {@link Pipeline} of a {@link Configuration}, if any.
+     */
+    static final void flush(Configuration configuration) {
+        Pipeline pipeline = pipeline(configuration);
+
+        if (pipeline != null)
+            pipeline.flush();
+    }
+
+    /**
+     * Flush the {@link Pipeline} of a {@link Configuration}, if any, and get a
+     * {@link Configuration} that does not pipeline queries.
+     */
+    static final Configuration unpipelined(Configuration configuration) {
+        Pipeline pipeline = pipeline(configuration);
+
+        if (pipeline == null)
+            return configuration;
+
+        pipeline.flush();
+        Configuration result = configuration.derive();
+        result.data().remove(DATA_PIPELINE);
+        return result;
+    }
+
+    /**
+     * Queue a query, or flush the queue if the query cannot be pipelined.
+     *
+     * @return Whether the query was queued.
+     */
+    final synchronized boolean add(AbstractQuery query) {
+        Queued queued = query.pipelinable() ? render(query) : null;
+
+        if (queued == null) {
+            flush();
+            return false;
+        }
+
+        queue.add(queued);
+
+        if (batchSize > 0 && queue.size() >= batchSize)
+            flush();
+
+        return true;
+    }
+
+    private final Queued render(AbstractQuery query) {
+        if (!executePreparedStatements(configuration.settings()))
+            return null;
+
+        DefaultRenderContext render = new DefaultRenderContext(configuration);
+        render.data(DATA_COUNT_BIND_VALUES, true);
+
+        try {
+            String sql = render.visit(query).render();
+
+            // [#6474] Statements that are emulated with several statements
+            //         produce several update counts
+            if (render.peekSkipUpdateCounts() != 0)
+                return null;
+
+            // The query may be re-executed with different bind values before
+            // the queue is flushed
+            List<Param<?>> bindValues = render.bindValues();
+            Param<?>[] params = new Param[bindValues.size()];
+
+            for (int i = 0; i < params.length; i++)
+                params[i] = copy(bindValues.get(i));
+
+            return new Queued(query, sql, params);
+        }
+        catch (DefaultRenderContext.ForceInlineSignal e) {
+            return null;
+        }
+    }
+
+    private static final <T> Param<T> copy(Param<T> param) {
+        return new Val<>(param.getValue(), param.getDataType());
+    }
+
+    /**
+     * Execute all queued queries.
+     */
+    final synchronized void flush() {
+        if (queue.isEmpty())
+            return;
+
+        try {
+            int size = queue.size();
+
+            for (int i = 0; i < size;) {
+                String sql = queue.get(i).sql;
+                int j = i + 1;
+
+                while (j < size && sql.equals(queue.get(j).sql))
+                    j++;
+
+                addCounts(execute(queue.subList(i, j)));
+                i = j;
+            }
+        }
+        finally {
+            queue.clear();
+        }
+    }
+
+    /**
+     * Discard all queued queries.
+     */
+    final synchronized void discard() {
+        queue.clear();
+    }
+
+    /**
+     * The update counts of all flushed queries, in execution order.
+     */
+    final synchronized int[] counts() {
+        return Arrays.copyOf(counts, count);
+    }
+
+    private final void addCounts(int[] c) {
+        if (count + c.length > counts.length)
+            counts = Arrays.copyOf(counts, Math.max(count + c.length, counts.length * 2));
+
+        System.arraycopy(c, 0, counts, count, c.length);
+        count += c.length;
+    }
+
+    private final int[] execute(List<Queued> batch) {
+        Query[] queries = new Query[batch.size()];
+        for (int i = 0; i < queries.length; i++)
+            queries[i] = batch.get(i).query;
+
+        ExecuteContext ctx = queries.length == 1
+            ? new DefaultExecuteContext(configuration, queries[0])
+            : new DefaultExecuteContext(configuration, queries);
+        ExecuteListener listener = ExecuteListeners.get(ctx);
+
+        try {
+            // [#8968] Keep start() event inside of lifecycle management
+            listener.start(ctx);
+
+            listener.renderStart(ctx);
+            ctx.sql(batch.get(0).sql);
+            listener.renderEnd(ctx);
+
+            listener.prepareStart(ctx);
+            if (ctx.statement() == null)
+                ctx.statement(ctx.connection().prepareStatement(ctx.sql()));
+            listener.prepareEnd(ctx);
+
+            // [#9295] use query timeout from settings
+            int t = SettingsTools.getQueryTimeout(0, ctx.settings());
+            if (t != 0)
+                ctx.statement().setQueryTimeout(t);
+
+            for (Queued queued : batch) {
+                listener.bindStart(ctx);
+                visitAll(new DefaultBindContext(configuration, ctx.statement()), queued.bindValues);
+                listener.bindEnd(ctx);
+
+                if (queries.length > 1)
+                    ctx.statement().addBatch();
+            }
+
+            listener.executeStart(ctx);
+            int[] result;
+
+            if (queries.length > 1) {
+                result = ctx.statement().executeBatch();
+
+                int[] batchRows = ctx.batchRows();
+                for (int i = 0; i < batchRows.length && i < result.length; i++)
+                    batchRows[i] = result[i];
+            }
+            else {
+                result = new int[] { ctx.statement().executeUpdate() };
+                ctx.rows(result[0]);
+            }
+
+            listener.executeEnd(ctx);
+            return result;
+        }
+
+        // [#3427] ControlFlowSignals must not be passed on to ExecuteListners
+        catch (ControlFlowSignal e) {
+            throw e;
+        }
+        catch (RuntimeException e) {
+            ctx.exception(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        finally {
+            Tools.safeClose(listener, ctx);
+        }
+    }
+
+    private static final class Queued {
+        final Query      query;
+        final String     sql;
+        final Param<?>[] bindValues;
+
+        Queued(Query query, String sql, Param<?>[] bindValues) {
+            this.query = query;
+            this.sql = sql;
+            this.bindValues = bindValues;
+        }
+    }
+}
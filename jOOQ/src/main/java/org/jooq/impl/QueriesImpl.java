@@ -122,6 +122,11 @@ final class QueriesImpl extends AbstractQueryPart implements Queries {
 
     @Override
     public final Results fetchMany() {
+        Query[] array = queries();
+
+        if (CombinedResultQuery.combinable(configuration(), array))
+            return new CombinedResultQuery(configuration(), this, array).fetchMany();
+
         ResultsImpl results = new ResultsImpl(configuration());
         DSLContext ctx = configuration().dsl();
 
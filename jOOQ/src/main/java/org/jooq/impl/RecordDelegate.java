@@ -64,6 +64,8 @@ final class RecordDelegate<R extends Record> {
     private final Configuration       configuration;
     private final R                   record;
     private final RecordLifecycleType type;
+    private RecordListener[]          listeners;
+    private DefaultRecordContext      ctx;
 
     RecordDelegate(Configuration configuration, R record) {
         this(configuration, record, LOAD);
@@ -85,13 +87,40 @@ final class RecordDelegate<R extends Record> {
 
     @SuppressWarnings("unchecked")
     final <E extends Exception> R operate(RecordOperation<? super R, E> operation) throws E {
-        RecordListenerProvider[] providers = null;
-        RecordListener[] listeners = null;
-        DefaultRecordContext ctx = null;
         E exception = null;
 
+        start();
+
+        if (operation != null) {
+            try {
+                operation.operate(record);
+            }
+
+            // [#2770][#3036] Exceptions must not propagate before listeners receive "end" events
+            catch (Exception e) {
+                exception = (E) e;
+                exception(e);
+            }
+        }
+
+        end();
+
+        if (exception != null)
+            throw exception;
+
+        return record;
+    }
+
+    /**
+     * Fire the "start" events and attach the record.
+     * <p>
+     * Together with {@link #exception(Exception)} and {@link #end()}, this
+     * allows for wrapping a single operation in the events of several records,
+     * as if calls to {@link #operate(RecordOperation)} were nested.
+     */
+    final void start() {
         if (configuration != null) {
-            providers = configuration.recordListenerProviders();
+            RecordListenerProvider[] providers = configuration.recordListenerProviders();
 
             if (providers != null && providers.length > 0) {
                 listeners = new RecordListener[providers.length];
@@ -125,28 +154,28 @@ final class RecordDelegate<R extends Record> {
         // [#1684] Do not attach configuration if settings say no
         if (attachRecords(configuration))
             record.attach(configuration);
+    }
 
-        if (operation != null) {
-            try {
-                operation.operate(record);
-            }
-
-            // [#2770][#3036] Exceptions must not propagate before listeners receive "end" events
-            catch (Exception e) {
-                exception = (E) e;
+    /**
+     * Fire the "exception" events for an exception thrown by the operation.
+     */
+    final void exception(Exception e) {
 
-                // Do not propagate these exception types to client code as they're not really "exceptions"
-                if (!(e instanceof ControlFlowSignal)) {
-                    if (ctx != null)
-                        ctx.exception = e;
+        // Do not propagate these exception types to client code as they're not really "exceptions"
+        if (!(e instanceof ControlFlowSignal)) {
+            if (ctx != null)
+                ctx.exception = e;
 
-                    if (listeners != null)
-                        for (RecordListener listener : listeners)
-                            listener.exception(ctx);
-                }
-            }
+            if (listeners != null)
+                for (RecordListener listener : listeners)
+                    listener.exception(ctx);
         }
+    }
 
+    /**
+     * Fire the "end" events.
+     */
+    final void end() {
         if (listeners != null) {
             for (RecordListener listener : (
                 ctx == null || ctx.settings().getRecordListenerEndInvocationOrder() != REVERSE
@@ -166,11 +195,6 @@ final class RecordDelegate<R extends Record> {
                 }
             }
         }
-
-        if (exception != null)
-            throw exception;
-
-        return record;
     }
 
     private final ExecuteType executeType() {
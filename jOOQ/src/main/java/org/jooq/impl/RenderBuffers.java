@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.ArrayDeque;
+
+/**
+ * A small per-thread pool of {@link StringBuilder} buffers used by
+ * {@link DefaultRenderContext} when rendering SQL for execution.
+ * <p>
+ * Buffers are removed from the pool while they are in use, so nested
+ * rendering (e.g. an {@link org.jooq.ExecuteListener} rendering another query,
+ * or a {@link DefaultRenderContext.ForceInlineSignal} retry) always obtains a
+ * distinct buffer. Buffers that grew beyond {@link #MAX_CAPACITY} are not
+ * recycled, to prevent occasional large statements from being retained.
+ *
+ * @author Lukas Eder
+ */
+final class RenderBuffers {
+
+    static final int                                            INITIAL_CAPACITY = 256;
+    static final int                                            MAX_CAPACITY     = 64 * 1024;
+    static final int                                            MAX_POOLED       = 4;
+
+    private static final ThreadLocal<ArrayDeque<StringBuilder>> POOL             = new ThreadLocal<ArrayDeque<StringBuilder>>() {
+        @Override
+        protected ArrayDeque<StringBuilder> initialValue() {
+            return new ArrayDeque<>(MAX_POOLED);
+        }
+    };
+
+    /**
+     * Get an empty buffer from the current thread's pool, or a new buffer if
+     * the pool is empty.
+     */
+    static final StringBuilder acquire() {
+        StringBuilder result = POOL.get().pollFirst();
+        return result != null ? result : new StringBuilder(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Return a buffer to the current thread's pool. The buffer must no longer
+     * be used by the caller.
+     */
+    static final void release(StringBuilder buffer) {
+        if (buffer.capacity() > MAX_CAPACITY)
+            return;
+
+        ArrayDeque<StringBuilder> pool = POOL.get();
+        if (pool.size() < MAX_POOLED) {
+            buffer.setLength(0);
+            pool.offerFirst(buffer);
+        }
+    }
+}
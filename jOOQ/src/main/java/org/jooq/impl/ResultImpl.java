@@ -118,9 +118,13 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
     }
 
     ResultImpl(Configuration configuration, Fields<R> fields) {
+        this(configuration, fields, new ArrayList<R>());
+    }
+
+    ResultImpl(Configuration configuration, Fields<R> fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -131,9 +135,13 @@ final class ResultImpl<R extends Record> extends AbstractCursor<R> implements Re
     public final void attach(Configuration c) {
         this.configuration = c;
 
-        for (R record : records)
-            if (record != null)
-                record.attach(c);
+        // Spilled records are attached when they are read again
+        if (records instanceof SpilledRecordList)
+            ((SpilledRecordList<R>) records).attach(c);
+        else
+            for (R record : records)
+                if (record != null)
+                    record.attach(c);
     }
 
     @Override
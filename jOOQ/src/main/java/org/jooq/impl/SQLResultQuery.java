@@ -43,6 +43,7 @@ import java.util.Collection;
 import org.jooq.Clause;
 import org.jooq.Configuration;
 import org.jooq.Context;
+import org.jooq.ExecuteContext;
 import org.jooq.Field;
 import org.jooq.QueryPart;
 import org.jooq.QueryPartInternal;
@@ -92,12 +93,12 @@ final class SQLResultQuery extends AbstractResultQuery<Record> {
     }
 
     @Override
-    protected final Field<?>[] getFields(ResultSetMetaData meta) {
+    protected final Field<?>[] getFields(ExecuteContext ctx, ResultSetMetaData meta) {
         Collection<? extends Field<?>> coerce = coerce();
 
         if (coerce != null && !coerce.isEmpty())
             return coerce.toArray(Tools.EMPTY_FIELD);
         else
-            return new MetaDataFieldProvider(configuration(), meta).getFields();
+            return MetaDataFieldProvider.fields(configuration(), ctx.sql(), meta);
     }
 }
@@ -293,6 +293,16 @@ final class SelectImpl<R extends Record, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10
         return getDelegate().fetchCount();
     }
 
+    @Override
+    public final Stream<R> fetchStreamPaged(int pageSize) {
+        return getDelegate().fetchStreamPaged(pageSize);
+    }
+
+    @Override
+    public final Stream<R> fetchStreamPaged(int pageSize, boolean prefetch) {
+        return getDelegate().fetchStreamPaged(pageSize, prefetch);
+    }
+
     /**
      * This method must be able to return both incompatible types
      * SelectSelectStep&lt;Record&gt; and SelectSelectStep&lt;R&gt;
@@ -186,6 +186,7 @@ import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.Context;
 import org.jooq.DataType;
+import org.jooq.ExecuteContext;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
 import org.jooq.GroupField;
@@ -200,6 +201,7 @@ import org.jooq.Param;
 import org.jooq.QualifiedAsterisk;
 import org.jooq.QueryPart;
 import org.jooq.Record;
+import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.SQLDialect;
 import org.jooq.Select;
@@ -369,6 +371,54 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         return DSL.using(configuration()).fetchCount(this);
     }
 
+    @Override
+    public final Stream<R> fetchStreamPaged(int pageSize) {
+        return fetchStreamPaged(pageSize, false);
+    }
+
+    @Override
+    public final Stream<R> fetchStreamPaged(int pageSize, boolean prefetch) {
+        if (getOrderBy().isEmpty())
+            throw new IllegalStateException("Keyset pagination requires an ORDER BY clause");
+        if (getLimit().isApplicable())
+            throw new IllegalStateException("Keyset pagination cannot be combined with a LIMIT or OFFSET clause");
+
+        return new KeysetPager<>(this, pageSize, prefetch).stream();
+    }
+
+    /**
+     * Fetch a single page for a {@link KeysetPager}, temporarily replacing
+     * this query's <code>SEEK</code> and <code>LIMIT</code> clauses.
+     *
+     * @param seekValues The seek values, or <code>null</code> if the current
+     *            <code>SEEK</code> clause should be kept for the first page.
+     */
+    final synchronized Result<R> fetchPage(Field<?>[] seekValues, int pageSize) {
+        QueryPartList<Field<?>> s = getSeek();
+        List<Field<?>> previousSeek = new ArrayList<>(s);
+        boolean previousSeekBefore = unionOp.isEmpty() ? seekBefore : unionSeekBefore;
+
+        try {
+            if (seekValues != null) {
+                s.clear();
+                addSeekAfter(seekValues);
+            }
+
+            getLimit().setNumberOfRows(pageSize);
+            return fetch();
+        }
+        finally {
+            getLimit().clear();
+            s.clear();
+            s.addAll(previousSeek);
+
+            if (unionOp.isEmpty())
+                seekBefore = previousSeekBefore;
+            else
+                unionSeekBefore = previousSeekBefore;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final <T> Field<T> asField() {
@@ -544,7 +594,21 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
 
 
     @Override
-    protected final Field<?>[] getFields(ResultSetMetaData meta) {
+    final Field<?>[] projection() {
+        Field<?>[] result = super.projection();
+
+        if (result == null) {
+            List<Field<?>> select = getSelect();
+
+            if (!select.isEmpty())
+                result = fieldArray(select);
+        }
+
+        return result;
+    }
+
+    @Override
+    protected final Field<?>[] getFields(ExecuteContext ctx, ResultSetMetaData meta) {
         Collection<? extends Field<?>> fields = coerce();
 
         // [#1808] TODO: Restrict this field list, in case a restricting fetch()
@@ -567,7 +631,7 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
         // If no projection was specified explicitly, create fields from result
         // set meta data instead. This is typically the case for SELECT * ...
         if (fields.isEmpty())
-            return new MetaDataFieldProvider(configuration(), meta).getFields();
+            return MetaDataFieldProvider.fields(configuration(), ctx.sql(), meta);
 
         return fieldArray(fields);
     }
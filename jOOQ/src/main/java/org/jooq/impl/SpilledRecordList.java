@@ -0,0 +1,900 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * The list of records backing a {@link ResultImpl}, which keeps only the first
+ * <code>threshold</code> records on the heap, and spills further records to a
+ * temporary file.
+ * <p>
+ * Spilled records are written in pages of {@link #PAGE_SIZE} records, using a
+ * compact binary encoding per column, chosen from the column's
+ * {@link Field#getType()}. Pages are read back and decoded again lazily, when
+ * their records are accessed, keeping the most recently used pages on the
+ * heap. Reading a spilled page modifies the cache of decoded pages, which is
+ * synchronized, so concurrent reads are safe, as with an {@link ArrayList}.
+ * Records that cannot be encoded (e.g. because they have been
+ * changed, or because they contain values that are neither supported by the
+ * encoding nor {@link Serializable}) remain on the heap.
+ * <p>
+ * Decoded records are new record instances. When their page is evicted from
+ * the cache, records whose values differ from the decoded values are kept on
+ * the heap, so modifications to spilled records are retained, even if they
+ * have been stored and are no longer marked as changed. Structural
+ * modifications in the middle of the list move all records back onto the
+ * heap.
+ *
+ * @author Lukas Eder
+ */
+final class SpilledRecordList<R extends Record> extends AbstractList<R> implements RandomAccess, Serializable {
+
+    /**
+     * Generated UID
+     */
+    private static final long                   serialVersionUID = -2329163592553796738L;
+
+    /**
+     * The number of records per spilled page.
+     */
+    static final int                            PAGE_SIZE        = 1024;
+
+    /**
+     * The number of decoded pages that are kept on the heap.
+     */
+    static final int                            PAGES_CACHED     = 4;
+
+    private static final byte                   NULL             = 0;
+    private static final byte                   VALUE            = 1;
+    private static final byte                   SERIALIZED       = 2;
+
+    private static final int                    OTHER            = 0;
+    private static final int                    BOOLEAN          = 1;
+    private static final int                    BYTE             = 2;
+    private static final int                    SHORT            = 3;
+    private static final int                    INTEGER          = 4;
+    private static final int                    LONG             = 5;
+    private static final int                    FLOAT            = 6;
+    private static final int                    DOUBLE           = 7;
+    private static final int                    STRING           = 8;
+    private static final int                    BIG_DECIMAL      = 9;
+    private static final int                    BIG_INTEGER      = 10;
+    private static final int                    BYTES            = 11;
+    private static final int                    DATE             = 12;
+    private static final int                    TIME             = 13;
+    private static final int                    TIMESTAMP        = 14;
+    private static final int                    LOCAL_DATE       = 15;
+    private static final int                    LOCAL_TIME       = 16;
+    private static final int                    LOCAL_DATE_TIME  = 17;
+    private static final int                    OFFSET_DATE_TIME = 18;
+    private static final int                    UUID_            = 19;
+
+    /**
+     * Spill files of lists that are no longer reachable, to be closed and
+     * deleted.
+     */
+    private static final ReferenceQueue<Object> QUEUE            = new ReferenceQueue<>();
+    private static final Set<SpillFile>         FILES            = Collections.newSetFromMap(new ConcurrentHashMap<SpillFile, Boolean>());
+
+    private transient Configuration                  configuration;
+    private final transient F0<? extends R>          factory;
+    private final transient Field<?>[]               fields;
+    private final transient int[]                    types;
+    private transient int                            threshold;
+
+    private final transient List<R>                  heap;
+    private final transient List<R>                  tail;
+    private final transient Map<Integer, R>          overrides;
+    private final transient Map<Integer, R[]>        cache;
+    private final transient Map<Integer, Object[][]> snapshots;
+    private transient long[]                         offsets;
+    private transient int                            pages;
+    private transient SpillFile                      file;
+    private transient ByteBuffer                     buffer;
+
+    SpilledRecordList(Configuration configuration, F0<? extends R> factory, Field<?>[] fields, int threshold) {
+        this.configuration = configuration;
+        this.factory = factory;
+        this.fields = fields;
+        this.types = new int[fields.length];
+        this.threshold = threshold;
+
+        this.heap = new ArrayList<>();
+        this.tail = new ArrayList<>();
+        this.overrides = new HashMap<>();
+        this.snapshots = new HashMap<>();
+        this.cache = new LinkedHashMap<Integer, R[]>(PAGES_CACHED * 2, 0.75f, true) {
+
+            /**
+             * Generated UID
+             */
+            private static final long serialVersionUID = 4802950006574735591L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, R[]> eldest) {
+                if (size() <= PAGES_CACHED)
+                    return false;
+
+                evict(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+
+        for (int i = 0; i < fields.length; i++)
+            types[i] = type(fields[i].getType());
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final int size() {
+        return heap.size() + pages * PAGE_SIZE + tail.size();
+    }
+
+    @Override
+    public final R get(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+
+        if (index < heap.size())
+            return heap.get(index);
+
+        int i = index - heap.size();
+        int page = i / PAGE_SIZE;
+
+        if (page >= pages)
+            return tail.get(i - pages * PAGE_SIZE);
+
+        synchronized (cache) {
+            R override = overrides.get(index);
+            if (override != null)
+                return override;
+
+            return page(page)[i % PAGE_SIZE];
+        }
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        if (index < heap.size())
+            return heap.set(index, element);
+
+        int i = index - heap.size();
+        int page = i / PAGE_SIZE;
+
+        if (page >= pages)
+            return tail.set(i - pages * PAGE_SIZE, element);
+
+        synchronized (cache) {
+            R result = get(index);
+            overrides.put(index, element);
+
+            R[] cached = cache.get(page);
+            if (cached != null)
+                cached[i % PAGE_SIZE] = element;
+
+            return result;
+        }
+    }
+
+    @Override
+    public final boolean add(R element) {
+        modCount++;
+
+        if (pages == 0 && tail.isEmpty() && heap.size() < threshold) {
+            heap.add(element);
+        }
+        else {
+            tail.add(element);
+
+            if (tail.size() == PAGE_SIZE)
+                spill();
+        }
+
+        return true;
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        if (index == size()) {
+            add(element);
+        }
+        else {
+            materialize();
+            modCount++;
+            heap.add(index, element);
+        }
+    }
+
+    @Override
+    public final R remove(int index) {
+        materialize();
+        modCount++;
+        return heap.remove(index);
+    }
+
+    @Override
+    public final void clear() {
+        modCount++;
+        heap.clear();
+        tail.clear();
+
+        synchronized (cache) {
+            overrides.clear();
+            cache.clear();
+            snapshots.clear();
+            offsets = null;
+            pages = 0;
+            buffer = null;
+            close();
+        }
+    }
+
+    /**
+     * Attach all records, including spilled ones, which are attached when they
+     * are decoded.
+     */
+    final void attach(Configuration c) {
+        this.configuration = c;
+
+        for (R record : heap)
+            if (record != null)
+                record.attach(c);
+
+        for (R record : tail)
+            if (record != null)
+                record.attach(c);
+
+        synchronized (cache) {
+            for (R record : overrides.values())
+                if (record != null)
+                    record.attach(c);
+
+            for (R[] page : cache.values())
+                for (R record : page)
+                    if (record != null)
+                        record.attach(c);
+        }
+    }
+
+    private final Object writeReplace() throws ObjectStreamException {
+        return new ArrayList<>(this);
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Spilling
+    // -------------------------------------------------------------------------
+
+    /**
+     * Encode the current tail as a new page and write it to the spill file.
+     */
+    private final void spill() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(PAGE_SIZE * fields.length * 8);
+            DataOutputStream out = new DataOutputStream(bytes);
+            int index = heap.size() + pages * PAGE_SIZE;
+
+            for (int i = 0; i < tail.size(); i++) {
+                R record = tail.get(i);
+
+                if (!encode(out, record)) {
+                    overrides.put(index + i, record);
+                    out.writeByte(NULL);
+                }
+            }
+
+            out.flush();
+
+            if (file == null)
+                file = SpillFile.open(this);
+            if (offsets == null)
+                offsets = new long[16];
+            else if (offsets.length == pages + 1)
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+
+            long position = pages == 0 ? 0 : offsets[pages];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+            while (buffer.hasRemaining())
+                position += file.channel.write(buffer, position);
+
+            offsets[++pages] = position;
+            tail.clear();
+        }
+        catch (IOException e) {
+            throw new DataAccessException("Cannot spill records to disk", e);
+        }
+    }
+
+    /**
+     * Get a page of spilled records, decoding it if it is not cached.
+     * <p>
+     * This must be called while holding the lock on {@link #cache}.
+     */
+    private final R[] page(int page) {
+        R[] result = cache.get(page);
+
+        if (result == null) {
+            SpillFile.cleanup();
+
+            try {
+                result = decode(page, read(offsets[page], (int) (offsets[page + 1] - offsets[page])));
+            }
+            catch (IOException e) {
+                throw new DataAccessException("Cannot read spilled records from disk", e);
+            }
+
+            snapshots.put(page, snapshot(page, result));
+            cache.put(page, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Read a page into the reused heap {@link #buffer}, rather than mapping
+     * it, as mappings are released only by the garbage collector.
+     */
+    private final ByteBuffer read(long position, int length) throws IOException {
+        if (buffer == null || buffer.capacity() < length)
+            buffer = ByteBuffer.allocate(length);
+
+        buffer.clear();
+        buffer.limit(length);
+
+        while (buffer.hasRemaining())
+            if (file.channel.read(buffer, position + buffer.position()) < 0)
+                throw new IOException("Unexpected end of spill file");
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Take a snapshot of the values of the decoded records of a page.
+     * <p>
+     * Records that are already kept in {@link #overrides} have no snapshot.
+     */
+    private final Object[][] snapshot(int page, R[] records) {
+        Object[][] result = new Object[records.length][];
+        int index = heap.size() + page * PAGE_SIZE;
+
+        for (int i = 0; i < records.length; i++)
+            if (records[i] instanceof AbstractRecord && !overrides.containsKey(index + i))
+                result[i] = ((AbstractRecord) records[i]).values.clone();
+
+        return result;
+    }
+
+    /**
+     * Retain the changes to records of an evicted page.
+     * <p>
+     * A record is retained if its values differ from its decoded values, or
+     * if it is still marked as changed, e.g. because
+     * {@link Record#changed(boolean)} has been called. Comparing the values
+     * covers records that have been modified and then stored, which resets
+     * their changed flags.
+     */
+    private final void evict(int page, R[] records) {
+        Object[][] snapshot = snapshots.remove(page);
+        int index = heap.size() + page * PAGE_SIZE;
+
+        for (int i = 0; i < records.length; i++) {
+            if (!(records[i] instanceof AbstractRecord) || snapshot == null || snapshot[i] == null)
+                continue;
+
+            AbstractRecord record = (AbstractRecord) records[i];
+            if (!record.changed.isEmpty() || !Arrays.equals(record.values, snapshot[i]))
+                overrides.put(index + i, records[i]);
+        }
+    }
+
+    /**
+     * Move all records back onto the heap.
+     */
+    private final void materialize() {
+        if (pages == 0 && tail.isEmpty())
+            return;
+
+        List<R> all = new ArrayList<>(this);
+        heap.clear();
+        heap.addAll(all);
+        tail.clear();
+        threshold = Integer.MAX_VALUE;
+
+        synchronized (cache) {
+            overrides.clear();
+            cache.clear();
+            snapshots.clear();
+            offsets = null;
+            pages = 0;
+            buffer = null;
+            close();
+        }
+    }
+
+    private final void close() {
+        if (file != null) {
+            file.close();
+            file = null;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Encoding
+    // -------------------------------------------------------------------------
+
+    private static final int type(Class<?> type) {
+        if (type == Boolean.class)
+            return BOOLEAN;
+        else if (type == Byte.class)
+            return BYTE;
+        else if (type == Short.class)
+            return SHORT;
+        else if (type == Integer.class)
+            return INTEGER;
+        else if (type == Long.class)
+            return LONG;
+        else if (type == Float.class)
+            return FLOAT;
+        else if (type == Double.class)
+            return DOUBLE;
+        else if (type == String.class)
+            return STRING;
+        else if (type == BigDecimal.class)
+            return BIG_DECIMAL;
+        else if (type == BigInteger.class)
+            return BIG_INTEGER;
+        else if (type == byte[].class)
+            return BYTES;
+        else if (type == Date.class)
+            return DATE;
+        else if (type == Time.class)
+            return TIME;
+        else if (type == Timestamp.class)
+            return TIMESTAMP;
+        else if (type == LocalDate.class)
+            return LOCAL_DATE;
+        else if (type == LocalTime.class)
+            return LOCAL_TIME;
+        else if (type == LocalDateTime.class)
+            return LOCAL_DATE_TIME;
+        else if (type == OffsetDateTime.class)
+            return OFFSET_DATE_TIME;
+        else if (type == UUID.class)
+            return UUID_;
+        else
+            return OTHER;
+    }
+
+    /**
+     * Encode a record, if possible.
+     *
+     * @return Whether the record could be encoded. If not, nothing has been
+     *         written.
+     */
+    private final boolean encode(DataOutputStream out, R record) throws IOException {
+        if (!(record instanceof AbstractRecord))
+            return false;
+
+        AbstractRecord r = (AbstractRecord) record;
+        if (r.lazy != null || !r.changed.isEmpty() || r.size() != fields.length)
+            return false;
+
+        // Values and original values must be identical, as only the values are encoded
+        for (int i = 0; i < fields.length; i++)
+            if (r.values[i] != r.originals[i])
+                return false;
+
+        byte[][] serialized = null;
+        for (int i = 0; i < fields.length; i++) {
+            Object value = r.values[i];
+
+            if (value != null && !encodable(types[i], value)) {
+                if (!(value instanceof Serializable))
+                    return false;
+
+                if (serialized == null)
+                    serialized = new byte[fields.length][];
+
+                serialized[i] = serialize(value);
+            }
+        }
+
+        out.writeByte(VALUE);
+        for (int i = 0; i < fields.length; i++) {
+            Object value = r.values[i];
+
+            if (value == null) {
+                out.writeByte(NULL);
+            }
+            else if (serialized != null && serialized[i] != null) {
+                out.writeByte(SERIALIZED);
+                out.writeInt(serialized[i].length);
+                out.write(serialized[i]);
+            }
+            else {
+                out.writeByte(VALUE);
+                encode(out, types[i], value);
+            }
+        }
+
+        return true;
+    }
+
+    private static final boolean encodable(int type, Object value) {
+        switch (type) {
+            case OTHER:
+                return false;
+
+            // Subtypes may carry additional information, which would be lost
+            case DATE:
+                return value.getClass() == Date.class;
+            case TIME:
+                return value.getClass() == Time.class;
+            case TIMESTAMP:
+                return value.getClass() == Timestamp.class;
+            case BIG_DECIMAL:
+                return value.getClass() == BigDecimal.class;
+            case BIG_INTEGER:
+                return value.getClass() == BigInteger.class;
+
+            default:
+                return true;
+        }
+    }
+
+    private static final void encode(DataOutputStream out, int type, Object value) throws IOException {
+        switch (type) {
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case INTEGER:
+                out.writeInt((Integer) value);
+                break;
+            case LONG:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BIG_DECIMAL:
+                out.writeInt(((BigDecimal) value).scale());
+                writeBytes(out, ((BigDecimal) value).unscaledValue().toByteArray());
+                break;
+            case BIG_INTEGER:
+                writeBytes(out, ((BigInteger) value).toByteArray());
+                break;
+            case BYTES:
+                writeBytes(out, (byte[]) value);
+                break;
+            case DATE:
+                out.writeLong(((Date) value).getTime());
+                break;
+            case TIME:
+                out.writeLong(((Time) value).getTime());
+                break;
+            case TIMESTAMP:
+                out.writeLong(((Timestamp) value).getTime());
+                out.writeInt(((Timestamp) value).getNanos());
+                break;
+            case LOCAL_DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                out.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                out.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+                out.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+                break;
+            case OFFSET_DATE_TIME:
+                out.writeLong(((OffsetDateTime) value).toLocalDate().toEpochDay());
+                out.writeLong(((OffsetDateTime) value).toLocalTime().toNanoOfDay());
+                out.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+                break;
+            case UUID_:
+                out.writeLong(((UUID) value).getMostSignificantBits());
+                out.writeLong(((UUID) value).getLeastSignificantBits());
+                break;
+            default:
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+
+    private static final void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static final byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Decoding
+    // -------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private final R[] decode(int page, ByteBuffer in) throws IOException {
+        R[] result = (R[]) new Record[PAGE_SIZE];
+        int index = heap.size() + page * PAGE_SIZE;
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (in.get() == NULL) {
+                result[i] = overrides.get(index + i);
+                continue;
+            }
+
+            R record = factory.apply();
+            AbstractRecord r = (AbstractRecord) record;
+
+            for (int j = 0; j < fields.length; j++) {
+                switch (in.get()) {
+                    case NULL:
+                        break;
+                    case SERIALIZED:
+                        r.values[j] = r.originals[j] = deserialize(readBytes(in));
+                        break;
+                    default:
+                        r.values[j] = r.originals[j] = decode(in, types[j]);
+                        break;
+                }
+            }
+
+            // [#3300] Spilled records have been fetched from the database
+            r.fetched = true;
+
+            if (attachRecords(configuration))
+                record.attach(configuration);
+
+            result[i] = record;
+        }
+
+        return result;
+    }
+
+    private static final Object decode(ByteBuffer in, int type) {
+        switch (type) {
+            case BOOLEAN:
+                return in.get() != 0;
+            case BYTE:
+                return in.get();
+            case SHORT:
+                return in.getShort();
+            case INTEGER:
+                return in.getInt();
+            case LONG:
+                return in.getLong();
+            case FLOAT:
+                return in.getFloat();
+            case DOUBLE:
+                return in.getDouble();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BIG_DECIMAL: {
+                int scale = in.getInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BYTES:
+                return readBytes(in);
+            case DATE:
+                return new Date(in.getLong());
+            case TIME:
+                return new Time(in.getLong());
+            case TIMESTAMP: {
+                Timestamp result = new Timestamp(in.getLong());
+                result.setNanos(in.getInt());
+                return result;
+            }
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(in.getLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(in.getLong());
+            case LOCAL_DATE_TIME: {
+                LocalDate date = LocalDate.ofEpochDay(in.getLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.getLong()));
+            }
+            case OFFSET_DATE_TIME: {
+                LocalDate date = LocalDate.ofEpochDay(in.getLong());
+                LocalTime time = LocalTime.ofNanoOfDay(in.getLong());
+                return OffsetDateTime.of(date, time, ZoneOffset.ofTotalSeconds(in.getInt()));
+            }
+            case UUID_: {
+                long msb = in.getLong();
+                return new UUID(msb, in.getLong());
+            }
+            default:
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+
+    private static final byte[] readBytes(ByteBuffer in) {
+        byte[] result = new byte[in.getInt()];
+        in.get(result);
+        return result;
+    }
+
+    private static final Object deserialize(byte[] bytes) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+        catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Spill files
+    // -------------------------------------------------------------------------
+
+    /**
+     * A temporary spill file, which is closed and deleted once its list is no
+     * longer reachable, or when the JVM shuts down.
+     * <p>
+     * Unreachable lists are detected when spill files are opened or read.
+     * Instead of {@link File#deleteOnExit()}, which retains each path until the
+     * JVM shuts down, a single shutdown hook deletes the files that are still
+     * open at that time.
+     */
+    private static final class SpillFile extends PhantomReference<Object> {
+
+        static {
+            try {
+                Runtime.getRuntime().addShutdownHook(new Thread("jOOQ spill file cleanup") {
+                    @Override
+                    public void run() {
+                        for (SpillFile file : FILES)
+                            file.close();
+                    }
+                });
+            }
+
+            // The JVM may already be shutting down
+            catch (IllegalStateException | SecurityException ignore) {}
+        }
+
+        final File             path;
+        final RandomAccessFile access;
+        final FileChannel      channel;
+
+        private SpillFile(Object list, File path, RandomAccessFile access) {
+            super(list, QUEUE);
+
+            this.path = path;
+            this.access = access;
+            this.channel = access.getChannel();
+        }
+
+        static final SpillFile open(Object list) throws IOException {
+            cleanup();
+
+            File path = File.createTempFile("jooq-result-", ".spill");
+
+            SpillFile result = new SpillFile(list, path, new RandomAccessFile(path, "rw"));
+            FILES.add(result);
+            return result;
+        }
+
+        static final void cleanup() {
+            Reference<?> ref;
+
+            while ((ref = QUEUE.poll()) != null)
+                ((SpillFile) ref).close();
+        }
+
+        final void close() {
+            FILES.remove(this);
+            clear();
+
+            try {
+                access.close();
+            }
+            catch (IOException ignore) {}
+
+            path.delete();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+/**
+ * A bounded, non-thread-safe pool of {@link String} values used to deduplicate
+ * the values of a single column while fetching records.
+ * <p>
+ * Unlike {@link String#intern()}, this pool is local to a single query
+ * execution, and thus neither contends on the JVM's global string table, nor
+ * retains any values beyond the lifetime of the {@link CursorImpl} that uses
+ * it.
+ * <p>
+ * Pools start out sampling their column's values. If the number of distinct
+ * values among the first {@link #SAMPLE_SIZE} values exceeds
+ * {@link #SAMPLE_SIZE} / {@link #MAX_DISTINCT_RATIO}, the column is considered
+ * to have high cardinality, and the pool is deactivated. Otherwise, values are
+ * looked up in an open addressing hash table with linear probing, which stops
+ * growing at {@link #MAX_SIZE} distinct values.
+ *
+ * @author Lukas Eder
+ */
+final class StringPool {
+
+    static final int SAMPLE_SIZE        = 1024;
+    static final int MAX_DISTINCT_RATIO = 8;
+    static final int MAX_SIZE           = 4096;
+    static final int MAX_LENGTH         = 256;
+
+    private String[] table;
+    private int      size;
+    private int      sampled;
+
+    StringPool() {
+        this.table = new String[64];
+    }
+
+    /**
+     * Whether this pool is (still) deduplicating values.
+     */
+    final boolean active() {
+        return table != null;
+    }
+
+    /**
+     * Get a pooled value equal to the argument, or add the argument to the
+     * pool if there is no such value yet.
+     */
+    final String dedup(String value) {
+        if (value == null || table == null || value.length() > MAX_LENGTH)
+            return value;
+
+        int mask = table.length - 1;
+        int i = spread(value.hashCode()) & mask;
+
+        for (String pooled; (pooled = table[i]) != null; i = (i + 1) & mask)
+            if (pooled.equals(value))
+                return sample(pooled);
+
+        if (size < MAX_SIZE) {
+            table[i] = value;
+
+            if (++size * 2 > table.length && table.length < MAX_SIZE * 2)
+                resize();
+        }
+
+        return sample(value);
+    }
+
+    private final String sample(String value) {
+        if (sampled < SAMPLE_SIZE) {
+            sampled++;
+
+            // Too many distinct values among the sampled ones
+            if (size > SAMPLE_SIZE / MAX_DISTINCT_RATIO)
+                table = null;
+        }
+
+        return value;
+    }
+
+    private final void resize() {
+        String[] old = table;
+        table = new String[old.length * 2];
+        int mask = table.length - 1;
+
+        for (String pooled : old) {
+            if (pooled != null) {
+                int i = spread(pooled.hashCode()) & mask;
+
+                while (table[i] != null)
+                    i = (i + 1) & mask;
+
+                table[i] = pooled;
+            }
+        }
+    }
+
+    private static final int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
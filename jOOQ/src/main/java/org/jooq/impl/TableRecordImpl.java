@@ -237,15 +237,8 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
         if (key != null && !key.isEmpty()) {
             R record = query.getReturnedRecord();
 
-            if (record != null) {
-                for (Field<?> field : key) {
-                    int index = indexOrFail(fieldsRow(), field);
-                    Object value = record.get(field);
-
-                    values[index] = value;
-                    originals[index] = value;
-                }
-            }
+            if (record != null)
+                setReturned(record, key);
 
             // [#1859] In some databases, not all fields can be fetched via getGeneratedKeys()
             if (TRUE.equals(configuration().settings().isReturnAllOnUpdatableRecord())
@@ -255,6 +248,21 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
         }
     }
 
+    /**
+     * Copy the returned values of a <code>RETURNING</code> clause to this
+     * record.
+     */
+    final void setReturned(Record record, Collection<Field<?>> key) {
+        for (Field<?> field : key) {
+            int index = indexOrFail(fieldsRow(), field);
+            Object value = record.get(field);
+
+            resolve(index);
+            values[index] = value;
+            originals[index] = value;
+        }
+    }
+
     final Collection<Field<?>> setReturningIfNeeded(StoreQuery<R> query) {
         Collection<Field<?>> key = null;
 
@@ -288,6 +296,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
             int fieldIndex = indexOrFail(fieldsRow(), field);
             Object value = field.getDataType().convert(version);
 
+            resolve(fieldIndex);
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
             changed.clear(fieldIndex);
@@ -297,6 +306,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractRecord im
             int fieldIndex = indexOrFail(fieldsRow(), field);
             Object value = field.getDataType().convert(timestamp);
 
+            resolve(fieldIndex);
             values[fieldIndex] = value;
             originals[fieldIndex] = value;
             changed.clear(fieldIndex);
@@ -171,6 +171,7 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
@@ -240,6 +241,7 @@ import org.jooq.JSONB;
 import org.jooq.Name;
 import org.jooq.OrderField;
 import org.jooq.Param;
+import org.jooq.PipelinedRunnable;
 // ...
 import org.jooq.QualifiedAsterisk;
 import org.jooq.Query;
@@ -251,6 +253,7 @@ import org.jooq.RenderContext;
 import org.jooq.RenderContext.CastMode;
 import org.jooq.Result;
 import org.jooq.ResultOrRows;
+import org.jooq.ResultQuery;
 import org.jooq.Results;
 import org.jooq.Row;
 import org.jooq.SQLDialect;
@@ -341,6 +344,20 @@ final class Tools {
          */
         DATA_OMIT_RETURNING_CLAUSE,
 
+        /**
+         * [#1547] This constant is used internally by jOOQ to omit the
+         * <code>SELECT .. FOR UPDATE</code> optimistic lock check of
+         * individual records in {@link DSLContext#batchStore(UpdatableRecord...)}
+         * calls, after the check has been performed in bulk.
+         */
+        DATA_OPTIMISTIC_LOCK_CHECKED,
+
+        /**
+         * This constant is used internally by jOOQ to indicate that the fetch
+         * size of a {@link ResultSet} is tuned by {@link AdaptiveFetchSize}.
+         */
+        DATA_ADAPTIVE_FETCH_SIZE,
+
         /**
          * [#1520] Count the number of bind values, and potentially enforce a static
          * statement.
@@ -538,6 +555,12 @@ final class Tools {
          */
         DATA_DEFAULT_TRANSACTION_PROVIDER_CONNECTION,
 
+        /**
+         * The {@link Pipeline} that queues update queries executed in a
+         * {@link DSLContext#pipelined(PipelinedRunnable)} scope.
+         */
+        DATA_PIPELINE,
+
         /**
          * [#2080] When emulating OFFSET pagination in certain databases, synthetic
          * aliases are generated that must be referenced also in
@@ -653,7 +676,10 @@ final class Tools {
         DATA_REFLECTION_CACHE_GET_MATCHING_MEMBERS("org.jooq.configuration.reflection-cache.get-matching-members"),
         DATA_REFLECTION_CACHE_GET_MATCHING_SETTERS("org.jooq.configuration.reflection-cache.get-matching-setters"),
         DATA_REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS("org.jooq.configuration.reflection-cache.has-column-annotations"),
-        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers");
+        DATA_CACHE_RECORD_MAPPERS("org.jooq.configuration.cache.record-mappers"),
+        DATA_CACHE_RENDERED_IDENTIFIERS("org.jooq.configuration.cache.rendered-identifiers"),
+        DATA_CACHE_EXECUTE_LISTENERS("org.jooq.configuration.cache.execute-listeners"),
+        DATA_CACHE_META_DATA_FIELDS("org.jooq.configuration.cache.meta-data-fields");
 
         final String key;
 
@@ -4066,6 +4092,19 @@ final class Tools {
      * [#3681] Consume all {@link ResultSet}s from a JDBC {@link Statement}.
      */
     static final void consumeResultSets(ExecuteContext ctx, ExecuteListener listener, Results results, Intern intern, SQLException prev) throws SQLException {
+        consumeResultSets(ctx, listener, results, intern, prev, null);
+    }
+
+    /**
+     * [#3681] Consume all {@link ResultSet}s from a JDBC {@link Statement}.
+     *
+     * @param queries The queries that produce the results, in order, if they
+     *            are known. The projections and record types of
+     *            {@link ResultQuery} instances among them are used to read
+     *            their {@link ResultSet}s.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static final void consumeResultSets(ExecuteContext ctx, ExecuteListener listener, Results results, Intern intern, SQLException prev, Query[] queries) throws SQLException {
         boolean anyResults = false;
         int i = 0;
         int rows = (ctx.resultSet() == null) ? ctx.rows() : 0;
@@ -4075,8 +4114,23 @@ final class Tools {
                 if (ctx.resultSet() != null) {
                     anyResults = true;
 
-                    Field<?>[] fields = new MetaDataFieldProvider(ctx.configuration(), ctx.resultSet().getMetaData()).getFields();
-                    Cursor<Record> c = new CursorImpl<>(ctx, listener, fields, intern != null ? intern.internIndexes(fields) : null, true, false);
+                    int index = results.resultsOrRows().size();
+                    ResultSetMetaData meta = ctx.resultSet().getMetaData();
+                    AbstractResultQuery<?> query = queries != null && index < queries.length && queries[index] instanceof AbstractResultQuery
+                        ? (AbstractResultQuery<?>) queries[index]
+                        : null;
+
+                    Field<?>[] fields = query != null ? query.projection() : null;
+                    Cursor<Record> c;
+
+                    if (fields != null && fields.length == meta.getColumnCount()) {
+                        c = new CursorImpl<>(ctx, listener, fields, intern != null ? intern.internIndexes(fields) : null, true, false, (Class) query.getRecordType(), 0, true);
+                    }
+                    else {
+                        fields = MetaDataFieldProvider.fields(((DefaultExecuteContext) ctx).originalConfiguration(), ctx.sql() == null ? null : Cache.key(ctx.sql(), i), meta);
+                        c = new CursorImpl<>(ctx, listener, fields, intern != null ? intern.internIndexes(fields) : null, true, false);
+                    }
+
                     results.resultsOrRows().add(new ResultOrRowsImpl(c.fetch()));
                 }
                 else if (prev == null) {
@@ -50,6 +50,7 @@ import static org.jooq.impl.RecordDelegate.RecordLifecycleType.STORE;
 import static org.jooq.impl.RecordDelegate.RecordLifecycleType.UPDATE;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.settings;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_OPTIMISTIC_LOCK_CHECKED;
 
 import java.math.BigInteger;
 import java.sql.Timestamp;
@@ -58,6 +59,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.jooq.Configuration;
+import org.jooq.DSLContext;
 import org.jooq.DeleteQuery;
 import org.jooq.Field;
 import org.jooq.ForeignKey;
@@ -187,6 +189,25 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
 
     private final int store0(Field<?>[] storeFields) {
         TableField<R, ?>[] keys = getPrimaryKey().getFieldsArray();
+        int result = 0;
+
+        if (storeExecutesUpdate(keys))
+            result = storeUpdate(storeFields, keys);
+        else
+            result = storeInsert(storeFields);
+
+        return result;
+    }
+
+    /**
+     * Whether {@link #store()} executes an <code>UPDATE</code> (rather than an
+     * <code>INSERT</code>) statement.
+     */
+    final boolean storeExecutesUpdate() {
+        return storeExecutesUpdate(getPrimaryKey().getFieldsArray());
+    }
+
+    private final boolean storeExecutesUpdate(TableField<R, ?>[] keys) {
         boolean executeUpdate = false;
 
         // [#2764] If primary key values are allowed to be changed,
@@ -211,14 +232,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             }
         }
 
-        int result = 0;
-
-        if (executeUpdate)
-            result = storeUpdate(storeFields, keys);
-        else
-            result = storeInsert(storeFields);
-
-        return result;
+        return executeUpdate;
     }
 
     private final int storeUpdate(final Field<?>[] storeFields, final TableField<R, ?>[] keys) {
@@ -278,7 +292,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         return isExecuteWithOptimisticLocking() && (isTimestampOrVersionAvailable() || isExecuteWithOptimisticLockingIncludeUnversioned());
     }
 
-    private final boolean lockValuePresent() {
+    final boolean lockValuePresent() {
 
         // [#10050] A lock value is present if we either have locking columns or if the record was fetched from the database
         return getRecordVersion() != null
@@ -338,7 +352,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             // [#1547] Try fetching the Record again first, and compare this
             // Record's original values with the ones in the database
             // [#5384] Do this only if the exclusion flag for unversioned records is off
-            else if (isExecuteWithOptimisticLockingIncludeUnversioned())
+            else if (isExecuteWithOptimisticLockingIncludeUnversioned() && !isOptimisticLockChecked())
                 checkIfChanged(keys);
 
         // [#1596]  Check if the record was really changed in the database
@@ -392,7 +406,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
                 // [#1547] Try fetching the Record again first, and compare this
                 // Record's original values with the ones in the database
                 // [#5384] Do this only if the exclusion flag for unversioned records is off
-                else if (isExecuteWithOptimisticLockingIncludeUnversioned())
+                else if (isExecuteWithOptimisticLockingIncludeUnversioned() && !isOptimisticLockChecked())
                     checkIfChanged(keys);
 
             int result = delete1.execute();
@@ -473,7 +487,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
         });
     }
 
-    private final boolean isExecuteWithOptimisticLocking() {
+    final boolean isExecuteWithOptimisticLocking() {
         Configuration configuration = configuration();
 
         return configuration != null
@@ -481,7 +495,7 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             : false;
     }
 
-    private final boolean isExecuteWithOptimisticLockingIncludeUnversioned() {
+    final boolean isExecuteWithOptimisticLockingIncludeUnversioned() {
         Configuration configuration = configuration();
 
         return configuration != null
@@ -489,6 +503,16 @@ public class UpdatableRecordImpl<R extends UpdatableRecord<R>> extends TableReco
             : true;
     }
 
+    /**
+     * [#1547] Whether the database record has already been checked for
+     * changes, e.g. in bulk by {@link DSLContext#batchStore(UpdatableRecord...)}.
+     */
+    private final boolean isOptimisticLockChecked() {
+        Configuration configuration = configuration();
+
+        return configuration != null && TRUE.equals(configuration.data(DATA_OPTIMISTIC_LOCK_CHECKED));
+    }
+
     private final void addConditionForVersionAndTimestamp(org.jooq.ConditionProvider query) {
         TableField<R, ?> v = getTable().getRecordVersion();
         TableField<R, ?> t = getTable().getRecordTimestamp();
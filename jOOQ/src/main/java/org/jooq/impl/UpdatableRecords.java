@@ -0,0 +1,305 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.SQLDialect.SQLITE;
+import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.RecordDelegate.delegate;
+import static org.jooq.impl.RecordDelegate.RecordLifecycleType.REFRESH;
+import static org.jooq.impl.Tools.settings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.RowN;
+import org.jooq.SQLDialect;
+import org.jooq.SelectQuery;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableRecord;
+import org.jooq.UpdatableRecord;
+import org.jooq.conf.Settings;
+import org.jooq.conf.UpdateUnchangedRecords;
+import org.jooq.exception.NoDataFoundException;
+import org.jooq.tools.StringUtils;
+
+/**
+ * Bulk operations on {@link UpdatableRecord} collections, which fetch the
+ * database records corresponding to many {@link UpdatableRecord} instances
+ * with one keyed query per table and chunk, rather than with one query per
+ * record.
+ *
+ * @author Lukas Eder
+ */
+final class UpdatableRecords {
+
+    private static final Set<SQLDialect> NO_SUPPORT_FOR_UPDATE = SQLDialect.supportedBy(SQLITE);
+    private static final int             MAX_ROWS              = 1000;
+
+    /**
+     * Get those records whose database record has been changed compared to
+     * their original values, or that don't exist any longer.
+     * <p>
+     * Versioned records (see {@link Table#getRecordVersion()} and
+     * {@link Table#getRecordTimestamp()}) are compared by their version and
+     * timestamp values only, other records by all of their values.
+     */
+    static final <R extends UpdatableRecord<?>> List<R> stale(Configuration configuration, Collection<? extends R> records, boolean forUpdate) {
+        List<R> result = new ArrayList<>();
+
+        for (Entry<Table<?>, List<R>> entry : UpdatableRecords.<R>byTable(records).entrySet()) {
+            Table<?> table = entry.getKey();
+            Field<?>[] compare = table.getRecordVersion() != null || table.getRecordTimestamp() != null
+                ? versionAndTimestamp(table)
+                : table.fields();
+
+            Map<List<Object>, Record> fetched = fetch(configuration, table, entry.getValue(), forUpdate);
+
+            for (R record : entry.getValue()) {
+                Record that = fetched.get(key(record));
+
+                if (that == null || changed(record, that, compare))
+                    result.add(record);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Refresh all records from the database.
+     *
+     * @throws NoDataFoundException If any of the records does not exist in the
+     *             database. In that case, none of the records are refreshed.
+     */
+    static final void refresh(Configuration configuration, Collection<? extends UpdatableRecord<?>> records) {
+        Map<UpdatableRecord<?>, Record> sources = new LinkedHashMap<>();
+
+        for (Entry<Table<?>, List<UpdatableRecord<?>>> entry : UpdatableRecords.<UpdatableRecord<?>>byTable(records).entrySet()) {
+            Map<List<Object>, Record> fetched = fetch(configuration, entry.getKey(), entry.getValue(), false);
+
+            for (UpdatableRecord<?> record : entry.getValue()) {
+                Record source = fetched.get(key(record));
+
+                if (source == null)
+                    throw new NoDataFoundException("Record does not exist in database: " + key(record));
+
+                sources.put(record, source);
+            }
+        }
+
+        for (Entry<UpdatableRecord<?>, Record> entry : sources.entrySet()) {
+            final AbstractRecord record = (AbstractRecord) entry.getKey();
+            final AbstractRecord source = (AbstractRecord) entry.getValue();
+
+            delegate(record.configuration() != null ? record.configuration() : configuration, (Record) record, REFRESH)
+                .operate(new RecordOperation<Record, RuntimeException>() {
+                    @Override
+                    public Record operate(Record r) throws RuntimeException {
+                        record.setValues(record.fields.fields.fields, source);
+                        return r;
+                    }
+                });
+        }
+    }
+
+    private static final <R extends UpdatableRecord<?>> Map<Table<?>, List<R>> byTable(Collection<? extends R> records) {
+        Map<Table<?>, List<R>> result = new LinkedHashMap<>();
+
+        for (R record : records) {
+            List<R> list = result.get(record.getTable());
+
+            if (list == null)
+                result.put(record.getTable(), list = new ArrayList<>());
+
+            list.add(record);
+        }
+
+        return result;
+    }
+
+    /**
+     * Fetch the database records for a set of records of the same table, in
+     * chunks of <code>WHERE (pk) IN ((..), (..), ..)</code> queries.
+     */
+    private static final Map<List<Object>, Record> fetch(Configuration configuration, Table<?> table, List<? extends UpdatableRecord<?>> records, boolean forUpdate) {
+        Map<List<Object>, Record> result = new HashMap<>();
+        TableField<?, ?>[] keys = table.getPrimaryKey().getFieldsArray();
+        int chunk = Math.max(1, Math.min(MAX_ROWS, BatchCRUD.bindValueLimit(configuration) / keys.length));
+
+        for (int i = 0; i < records.size(); i += chunk) {
+            List<? extends UpdatableRecord<?>> sublist = records.subList(i, Math.min(i + chunk, records.size()));
+            SelectQuery<Record> select = DSL.using(configuration).selectQuery();
+            select.addSelect(table.fields());
+            select.addFrom(table);
+            select.addConditions(condition(keys, sublist));
+
+            // [#1547] MS Access and SQLite doesn't support FOR UPDATE. CUBRID and SQL Server
+            // can emulate it, though!
+            if (forUpdate && !NO_SUPPORT_FOR_UPDATE.contains(configuration.dialect()))
+                select.setForUpdate(true);
+
+            for (Record record : select.fetch())
+                result.put(values(record, keys), record);
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Condition condition(TableField<?, ?>[] keys, List<? extends UpdatableRecord<?>> records) {
+        if (keys.length == 1) {
+            List<Object> values = new ArrayList<>(records.size());
+
+            for (UpdatableRecord<?> record : records)
+                values.add(key(record).get(0));
+
+            return ((Field) keys[0]).in(values);
+        }
+        else {
+            List<RowN> rows = new ArrayList<>(records.size());
+
+            for (UpdatableRecord<?> record : records) {
+                List<Object> key = key(record);
+                Field<?>[] fields = new Field[keys.length];
+
+                for (int i = 0; i < keys.length; i++)
+                    fields[i] = Tools.field(key.get(i), keys[i]);
+
+                rows.add(row(fields));
+            }
+
+            return row(keys).in(rows);
+        }
+    }
+
+    /**
+     * The primary key value by which a record is identified in the database.
+     */
+    private static final List<Object> key(UpdatableRecord<?> record) {
+        TableField<?, ?>[] keys = record.getTable().getPrimaryKey().getFieldsArray();
+        List<Object> result = new ArrayList<>(keys.length);
+
+        // [#2764] If primary keys are allowed to be changed, the original
+        // value identifies the record
+        boolean originals = updatablePrimaryKeys(settings(record));
+        for (TableField<?, ?> key : keys)
+            result.add(originals ? record.original(key) : record.get(key));
+
+        return result;
+    }
+
+    private static final List<Object> values(Record record, Field<?>[] fields) {
+        Object[] result = new Object[fields.length];
+
+        for (int i = 0; i < fields.length; i++)
+            result[i] = record.get(fields[i]);
+
+        return Arrays.asList(result);
+    }
+
+    private static final boolean changed(Record record, Record database, Field<?>[] compare) {
+        for (Field<?> field : compare)
+            if (!StringUtils.equals(record.original(field), database.original(field)))
+                return true;
+
+        return false;
+    }
+
+    private static final Field<?>[] versionAndTimestamp(Table<?> table) {
+        List<Field<?>> result = new ArrayList<>(2);
+
+        if (table.getRecordVersion() != null)
+            result.add(table.getRecordVersion());
+        if (table.getRecordTimestamp() != null)
+            result.add(table.getRecordTimestamp());
+
+        return result.toArray(Tools.EMPTY_FIELD);
+    }
+
+    /**
+     * Whether optimistic locking requires checking a record before executing
+     * a batch statement.
+     */
+    static final boolean lockCheckRequired(Configuration configuration, TableRecord<?> record, BatchCRUD.Action action) {
+        if (!(record instanceof UpdatableRecordImpl))
+            return false;
+
+        Settings settings = configuration.settings();
+        UpdatableRecordImpl<?> r = (UpdatableRecordImpl<?>) record;
+
+        if (!TRUE.equals(settings.isExecuteWithOptimisticLocking()))
+            return false;
+        if (!r.isTimestampOrVersionAvailable() && TRUE.equals(settings.isExecuteWithOptimisticLockingExcludeUnversioned()))
+            return false;
+
+        switch (action) {
+            case STORE:
+                return r.storeExecutesUpdate() && updates(settings, r);
+            case MERGE:
+                return r.lockValuePresent() && updates(settings, r);
+            case UPDATE:
+                return updates(settings, r);
+            case DELETE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Whether storing a record executes a statement at all.
+     */
+    private static final boolean updates(Settings settings, UpdatableRecordImpl<?> record) {
+        return record.changed()
+            || StringUtils.defaultIfNull(settings.getUpdateUnchangedRecords(), UpdateUnchangedRecords.NEVER) != UpdateUnchangedRecords.NEVER;
+    }
+}
@@ -43,10 +43,12 @@ import static org.jooq.impl.DSL.createSchema;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.schema;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,9 +71,27 @@ final class VersionImpl implements Version {
 
     private final DSLContext   ctx;
     private final String       id;
-    private final Meta         meta;
     private final List<Parent> parents;
 
+    /**
+     * The lazily materialised meta data of this version.
+     * <p>
+     * Versions produced by {@link #apply(String, Queries)} only store their
+     * delta (the migration queries) and compute their {@link Meta} on demand
+     * by replaying all deltas since the closest materialised ancestor.
+     */
+    private Meta               meta;
+
+    /**
+     * The {@link Interpreter} whose state corresponds to this version, if this
+     * version is the tip of a chain of {@link #apply(String, Queries)} calls.
+     * <p>
+     * The interpreter is handed over to the next version in the chain, such
+     * that applying a migration costs only the size of the migration, not the
+     * size of the entire schema.
+     */
+    private Interpreter        interpreter;
+
     private VersionImpl(DSLContext ctx, String id, Meta meta, List<Parent> parents) {
         this.ctx = ctx;
         this.id = id;
@@ -79,6 +99,13 @@ final class VersionImpl implements Version {
         this.parents = parents;
     }
 
+    private VersionImpl(DSLContext ctx, String id, Interpreter interpreter, VersionImpl parent, Queries queries) {
+        this.ctx = ctx;
+        this.id = id;
+        this.interpreter = interpreter;
+        this.parents = Arrays.asList(new Parent(parent, queries));
+    }
+
     private static final Meta init(DSLContext ctx) {
         Meta result = ctx.meta("");
 
@@ -116,7 +143,72 @@ final class VersionImpl implements Version {
 
     @Override
     public final Meta meta() {
-        return meta;
+        synchronized (this) {
+            if (meta == null) {
+                if (interpreter != null)
+                    meta = interpreter.meta().snapshot();
+                else
+                    meta = replay().meta();
+            }
+
+            return meta;
+        }
+    }
+
+    /**
+     * Take ownership of an {@link Interpreter} whose state corresponds to this
+     * version, either by taking over the one of this version, or by creating a
+     * new one.
+     */
+    private final Interpreter interpreter() {
+        synchronized (this) {
+            Interpreter result = interpreter;
+
+            if (result != null) {
+
+                // The interpreter is about to be modified. Make sure we don't
+                // lose the state of this version, if it has been observed.
+                interpreter = null;
+                return result;
+            }
+        }
+
+        return replay();
+    }
+
+    /**
+     * Create a new {@link Interpreter} whose state corresponds to this version,
+     * interpreting the closest materialised ancestor's DDL and all the deltas
+     * that have been applied since.
+     */
+    private final Interpreter replay() {
+        VersionImpl v = this;
+        Meta base;
+        Deque<Queries> deltas = new ArrayDeque<>();
+
+        for (;;) {
+            synchronized (v) {
+                if ((base = v.meta) != null)
+                    break;
+            }
+
+            // Versions without materialised meta data are always produced by
+            // apply(), and thus have exactly one parent
+            Parent parent = v.parents.get(0);
+            deltas.push(parent.queries);
+            v = parent.version;
+        }
+
+        Interpreter result = new Interpreter(ctx.configuration());
+
+        for (Query query : base.ddl().queries())
+            result.accept(query);
+
+        for (Queries delta : deltas)
+            for (Query query : delta.queries())
+                result.accept(query);
+
+        return result;
     }
 
     @Override
@@ -156,7 +248,12 @@ final class VersionImpl implements Version {
 
     @Override
     public final Version apply(String newId, Queries migration) {
-        return new VersionImpl(ctx, newId, meta().apply(migration), this, migration);
+        Interpreter i = interpreter();
+
+        for (Query query : migration.queries())
+            i.accept(query);
+
+        return new VersionImpl(ctx, newId, i, this, migration);
     }
 
     @Override
@@ -185,7 +282,7 @@ final class VersionImpl implements Version {
                 if (list == null)
                     list = new ArrayList<>();
 
-                list.add(new Parent(new VersionImpl(ctx, parent.version.id, parent.version.meta, Collections.<Parent>emptyList()), parent.queries));
+                list.add(new Parent(new VersionImpl(ctx, parent.version.id, parent.version.meta(), Collections.<Parent>emptyList()), parent.queries));
             }
             else {
                 VersionImpl p = parent.version.subgraphTo(ancestor);
@@ -199,7 +296,7 @@ final class VersionImpl implements Version {
             }
         }
 
-        return list == null ? null : new VersionImpl(ctx, id, meta, list);
+        return list == null ? null : new VersionImpl(ctx, id, meta(), list);
     }
 
     private final Queries migrateTo(VersionImpl target, Queries result) {
@@ -0,0 +1,315 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DefaultDataType.getDataType;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.tools.StringUtils.defaultIfBlank;
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
+
+import java.io.Closeable;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A streaming reader for the XML format produced by {@link Result#formatXML()}.
+ * <p>
+ * Unlike a SAX based approach, which has to produce all records before
+ * returning control to the caller, this reader pulls one record at a time from
+ * the underlying {@link XMLStreamReader}, keeping only the current record in
+ * memory.
+ *
+ * @author Lukas Eder
+ */
+final class XMLReader implements Iterator<String[]>, Closeable {
+
+    private final DSLContext      ctx;
+    private final Reader          reader;
+    private final XMLStreamReader xml;
+    private final List<Field<?>>  fields;
+    private final List<String>    values;
+    private Field<?>[]            fieldsArray;
+    private boolean               inResult;
+    private boolean               inFields;
+    private boolean               inRecord;
+    private int                   inColumn;
+    private StringBuilder         value;
+    private String[]              next;
+    private boolean               done;
+
+    XMLReader(DSLContext ctx, Reader reader) {
+        this.ctx = ctx;
+        this.reader = reader;
+        this.fields = new ArrayList<>();
+        this.values = new ArrayList<>();
+
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+
+            // [JOOX #136] Prevent OWASP attack vectors
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            this.xml = factory.createXMLStreamReader(reader);
+        }
+        catch (XMLStreamException e) {
+            throw new DataAccessException("Could not read the XML data", e);
+        }
+    }
+
+    /**
+     * Read all remaining records into a {@link Result}.
+     */
+    final Result<Record> read() {
+        try {
+            Result<Record> result = ctx.newResult(fields());
+
+            while (hasNext()) {
+                Record r = ctx.newRecord(fieldsArray);
+                r.from(next());
+                result.add(r);
+            }
+
+            return result;
+        }
+        finally {
+            close();
+        }
+    }
+
+    /**
+     * The fields of the XML data.
+     * <p>
+     * If the XML data does not contain a <code>&lt;fields/&gt;</code> header,
+     * then the fields are derived from the first record, which is read ahead.
+     */
+    final Field<?>[] fields() {
+        if (fieldsArray == null)
+            hasNext();
+
+        if (fieldsArray == null)
+            initFields();
+
+        return fieldsArray;
+    }
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null && !done)
+            next = readNext();
+
+        return next != null;
+    }
+
+    @Override
+    public final String[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        String[] result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public final void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    @Override
+    public final void close() {
+        done = true;
+
+        try {
+            xml.close();
+        }
+        catch (XMLStreamException ignore) {}
+
+        safeClose(reader);
+    }
+
+    private final String[] readNext() {
+        try {
+            while (xml.hasNext()) {
+                switch (xml.next()) {
+                    case XMLStreamReader.START_ELEMENT:
+                        startElement(xml.getLocalName());
+                        break;
+
+                    case XMLStreamReader.END_ELEMENT:
+                        if (endElement(xml.getLocalName()))
+                            return record();
+
+                        break;
+
+                    case XMLStreamReader.CHARACTERS:
+                    case XMLStreamReader.CDATA:
+                    case XMLStreamReader.SPACE:
+                        if (inColumn > 0) {
+                            if (value == null)
+                                value = new StringBuilder();
+
+                            value.append(xml.getTextCharacters(), xml.getTextStart(), xml.getTextLength());
+                        }
+
+                        break;
+                }
+            }
+
+            close();
+            return null;
+        }
+        catch (XMLStreamException e) {
+            close();
+            throw new DataAccessException("Could not read the XML data", e);
+        }
+    }
+
+    private final void startElement(String name) {
+
+        // Nested content of a column, e.g. a nested formatted result
+        if (inColumn > 0) {
+            inColumn++;
+        }
+        else if (!inResult && "result".equals(name)) {
+            inResult = true;
+        }
+        else if (inResult && "fields".equals(name)) {
+            inFields = true;
+        }
+        else if (inResult && inFields && "field".equals(name)) {
+            String catalog = xml.getAttributeValue(null, "catalog");
+            String schema = xml.getAttributeValue(null, "schema");
+            String table = xml.getAttributeValue(null, "table");
+            String field = xml.getAttributeValue(null, "name");
+            String type = xml.getAttributeValue(null, "type");
+
+            fields.add(field(name(catalog, schema, table, field), getDataType(ctx.dialect(), defaultIfBlank(type, "VARCHAR"))));
+        }
+        else if (inResult && "records".equals(name)) {}
+        else if (inResult && !inRecord && "record".equals(name)) {
+            inRecord = true;
+        }
+        else if (inRecord) {
+            if (fieldsArray == null) {
+                String fieldName;
+
+                if ("value".equals(name) && (fieldName = xml.getAttributeValue(null, "field")) != null)
+                    fields.add(field(name(fieldName), VARCHAR));
+                else
+                    fields.add(field(name(name), VARCHAR));
+            }
+
+            inColumn = 1;
+            value = null;
+        }
+    }
+
+    /**
+     * Handle an element end, returning whether a record has been completed.
+     */
+    private final boolean endElement(String name) {
+        if (inColumn > 0) {
+            if (--inColumn == 0) {
+                values.add(value == null ? null : value.toString());
+                value = null;
+            }
+        }
+        else if (inRecord && "record".equals(name)) {
+            inRecord = false;
+            return true;
+        }
+        else if (inFields && "fields".equals(name)) {
+            inFields = false;
+            initFields();
+        }
+        else if (!inRecord && "result".equals(name)) {
+            inResult = false;
+        }
+
+        return false;
+    }
+
+    private final String[] record() {
+        if (fieldsArray == null)
+            initFields();
+
+        String[] result = new String[fieldsArray.length];
+        for (int i = 0; i < result.length && i < values.size(); i++)
+            result[i] = values.get(i);
+
+        values.clear();
+        return result;
+    }
+
+    private final void initFields() {
+
+        // Parsing RecordFormat.VALUE_ELEMENTS format
+        if (onlyValueFields(fields))
+            fieldsArray = Tools.fields(fields.size());
+        else
+            fieldsArray = fields.toArray(EMPTY_FIELD);
+    }
+
+    private static final boolean onlyValueFields(List<Field<?>> fields) {
+        if (fields.size() <= 1)
+            return false;
+
+        for (Field<?> field : fields)
+            if (!"value".equals(field.getName()))
+                return false;
+
+        return true;
+    }
+}
@@ -159,6 +159,14 @@ public class CSVParser {
         return c1 != NULL_CHARACTER && c1 == c2;
     }
 
+    /**
+     * Set whether the previous line ended inside of a field, for lines that
+     * {@link CSVScanner} splits without this parser.
+     */
+    final void inField(boolean f) {
+        this.inField = f;
+    }
+
     /**
      * @return true if something was left over from last call(s)
      */
@@ -0,0 +1,444 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.csv;
+
+import static org.jooq.tools.csv.CSVParser.DEFAULT_ESCAPE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_QUOTE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_SEPARATOR;
+import static org.jooq.tools.csv.CSVParser.NULL_CHARACTER;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A CSV reader that scans large <code>char[]</code> buffers using a state
+ * machine.
+ * <p>
+ * Unlike {@link CSVReader}, this reader doesn't read the input into a
+ * <code>String</code> per line. Lines that don't contain any quote or escape
+ * characters are split directly from the buffer. All other lines, including
+ * quoted fields that span several lines, are parsed by a {@link CSVParser}
+ * with its default settings, so the results are the same as those of a
+ * {@link CSVReader}, also for malformed input. In particular, like
+ * {@link CSVReader}, a quoted field that is not terminated at the end of the
+ * input is discarded, along with the rest of its record.
+ * <p>
+ * With {@link #reuseRows(boolean)}, rows are returned in the same
+ * <code>String[]</code> instance as long as their width doesn't change, for
+ * consumers that don't retain rows.
+ *
+ * @author Lukas Eder
+ */
+public class CSVScanner implements Closeable, Iterator<String[]> {
+
+    /**
+     * The default buffer size.
+     */
+    public static final int  BUFFER_SIZE = 65536;
+
+    private final Reader     reader;
+    private final char       separator;
+    private final char       quotechar;
+    private final char       escape;
+    private final CSVParser  parser;
+    private int              skipLines;
+    private boolean          reuse;
+
+    private char[]           buf;
+    private int              pos;
+    private int              limit;
+    private boolean          eof;
+
+    // The start and end of the current line in buf
+    private int              mark        = -1;
+    private int              end         = -1;
+    private boolean          special;
+
+    private String[]         row         = new String[16];
+    private int              size;
+    private String[]         result;
+    private boolean          peeked;
+    private boolean          available;
+
+    /**
+     * Constructs a CSVScanner using a comma for the separator.
+     *
+     * @param reader the reader to an underlying CSV source.
+     */
+    public CSVScanner(Reader reader) {
+        this(reader, DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * Constructs a CSVScanner with supplied separator.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries.
+     */
+    public CSVScanner(Reader reader, char separator) {
+        this(reader, separator, DEFAULT_QUOTE_CHARACTER, DEFAULT_ESCAPE_CHARACTER, 0);
+    }
+
+    /**
+     * Constructs a CSVScanner with supplied separator, quote char, escape char
+     * and number of lines to skip.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the number of lines to skip before reading
+     */
+    public CSVScanner(Reader reader, char separator, char quotechar, char escape, int line) {
+        this(reader, new char[BUFFER_SIZE], 0, 0, separator, quotechar, escape, line);
+    }
+
+    /**
+     * Constructs a CSVScanner that scans an in-memory buffer.
+     * <p>
+     * The buffer is not modified.
+     *
+     * @param buffer the buffer containing CSV data
+     * @param offset the offset of the CSV data in the buffer
+     * @param length the length of the CSV data in the buffer
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the number of lines to skip before reading
+     */
+    public CSVScanner(char[] buffer, int offset, int length, char separator, char quotechar, char escape, int line) {
+        this(null, buffer, offset, offset + length, separator, quotechar, escape, line);
+    }
+
+    /**
+     * Constructs a CSVScanner that scans a chunk of a larger input, after a
+     * line that left {@link CSVParser} in a given field state.
+     */
+    CSVScanner(char[] buffer, int offset, int length, char separator, char quotechar, char escape, boolean inField) {
+        this(buffer, offset, length, separator, quotechar, escape, 0);
+
+        parser.inField(inField);
+    }
+
+    private CSVScanner(Reader reader, char[] buffer, int pos, int limit, char separator, char quotechar, char escape, int line) {
+        if (separator == NULL_CHARACTER)
+            throw new UnsupportedOperationException("The separator character must be defined!");
+        if (separator == quotechar || separator == escape || quotechar != NULL_CHARACTER && quotechar == escape)
+            throw new UnsupportedOperationException("The separator, quote, and escape characters must be different!");
+
+        this.reader = reader;
+        this.buf = buffer;
+        this.pos = pos;
+        this.limit = limit;
+        this.eof = reader == null;
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escape = escape;
+        this.parser = new CSVParser(separator, quotechar, escape);
+        this.skipLines = line;
+    }
+
+    /**
+     * Whether rows should be returned in a reused <code>String[]</code>
+     * instance.
+     */
+    public CSVScanner reuseRows(boolean reuseRows) {
+        this.reuse = reuseRows;
+        return this;
+    }
+
+    /**
+     * Reads the entire input into a List with each element being a String[] of
+     * tokens.
+     *
+     * @throws IOException if bad things happen during the read
+     */
+    public List<String[]> readAll() throws IOException {
+        List<String[]> result = new ArrayList<>();
+        String[] r;
+
+        while ((r = readNext(false)) != null)
+            result.add(r);
+
+        return result;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return a string array with each separated element as a separate entry,
+     *         or <code>null</code> if there are no more records.
+     * @throws IOException if bad things happen during the read
+     */
+    public String[] readNext() throws IOException {
+        return readNext(reuse);
+    }
+
+    private final String[] readNext(boolean reuseRow) throws IOException {
+        if (peeked)
+            peeked = false;
+        else
+            available = record();
+
+        if (!available)
+            return null;
+
+        if (reuseRow && result != null && result.length == size)
+            System.arraycopy(row, 0, result, 0, size);
+        else
+            result = Arrays.copyOf(row, size);
+
+        return result;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if the close fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (reader != null)
+            reader.close();
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Iterator implementation
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        if (!peeked) {
+            try {
+                available = record();
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+
+            peeked = true;
+        }
+
+        return available;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        try {
+            return readNext();
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() method is not supported for CSV Iterator ");
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Scanning
+    // ------------------------------------------------------------------------
+
+    /**
+     * Scan the next record into {@link #row}.
+     *
+     * @return whether there was a record.
+     */
+    private final boolean record() throws IOException {
+        for (; skipLines > 0; skipLines--)
+            skipLine();
+
+        size = 0;
+
+        do {
+
+            // Like CSVReader, return the fields read so far, if a quoted field
+            // is not terminated at the end of the input
+            if (!line())
+                return size > 0;
+
+            if (special || parser.isPending())
+                parse();
+            else
+                split();
+
+            mark = -1;
+            end = -1;
+        }
+        while (parser.isPending());
+
+        return true;
+    }
+
+    private final void skipLine() throws IOException {
+        while (pos < limit || fill()) {
+            char c = buf[pos++];
+
+            if (c == '\n')
+                return;
+
+            if (c == '\r') {
+                if ((pos < limit || fill()) && buf[pos] == '\n')
+                    pos++;
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Scan the next line into <code>buf[mark..end)</code>, with the same line
+     * breaks as {@link java.io.BufferedReader#readLine()}.
+     *
+     * @return whether there was a line.
+     */
+    private final boolean line() throws IOException {
+        if (pos == limit && !fill())
+            return false;
+
+        mark = pos;
+        special = false;
+
+        for (;;) {
+            if (pos == limit && !fill()) {
+                end = pos;
+                return true;
+            }
+
+            char c = buf[pos];
+
+            if (c == '\n' || c == '\r') {
+                end = pos++;
+
+                if (c == '\r' && (pos < limit || fill()) && buf[pos] == '\n')
+                    pos++;
+
+                return true;
+            }
+            else if (c == quotechar || c == escape) {
+                special = true;
+            }
+
+            pos++;
+        }
+    }
+
+    /**
+     * Split a line without any quote or escape characters into {@link #row}.
+     */
+    private final void split() {
+        int from = mark;
+
+        for (int i = mark; i < end; i++) {
+            if (buf[i] == separator) {
+                value(new String(buf, from, i - from));
+                from = i + 1;
+            }
+        }
+
+        value(new String(buf, from, end - from));
+
+        // Keep the parser's state in sync, as if it had parsed this line
+        if (end > mark)
+            parser.inField(buf[end - 1] != separator);
+    }
+
+    /**
+     * Parse a line using {@link #parser} into {@link #row}.
+     */
+    private final void parse() throws IOException {
+        for (String value : parser.parseLineMulti(new String(buf, mark, end - mark)))
+            value(value);
+    }
+
+    /**
+     * Add a field's value to the row.
+     */
+    private final void value(String value) {
+        if (size == row.length)
+            row = Arrays.copyOf(row, size * 2);
+
+        row[size++] = value;
+    }
+
+    /**
+     * Read more characters into the buffer, discarding characters that are no
+     * longer needed.
+     *
+     * @return whether characters could be read.
+     */
+    private final boolean fill() throws IOException {
+        if (eof)
+            return false;
+
+        int keep = mark >= 0 ? mark : pos;
+        if (keep > 0) {
+            System.arraycopy(buf, keep, buf, 0, limit - keep);
+            limit -= keep;
+            pos -= keep;
+
+            if (mark >= 0)
+                mark -= keep;
+            if (end >= 0)
+                end -= keep;
+        }
+
+        if (limit == buf.length)
+            buf = Arrays.copyOf(buf, buf.length * 2);
+
+        int read = reader.read(buf, limit, buf.length - limit);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+
+        limit += read;
+        return true;
+    }
+}
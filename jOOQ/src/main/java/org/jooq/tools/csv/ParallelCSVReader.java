@@ -0,0 +1,382 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.csv;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A CSV reader that parses a memory-mapped file in chunks, in parallel.
+ * <p>
+ * The file is first scanned once for safe record boundaries, i.e. line breaks
+ * that are not inside of a quoted field. This scan only tracks the quoting
+ * state of {@link CSVParser}, without producing any field values, so it is
+ * much cheaper than parsing. The results are the same as those of a
+ * {@link CSVReader}, also for malformed input. The resulting chunks are then decoded and parsed by
+ * {@link CSVScanner} instances running in an {@link Executor}, with at most
+ * <code>parallelism</code> chunks being parsed ahead of the consumer. Rows are
+ * returned in file order.
+ * <p>
+ * Record boundaries are detected on the undecoded bytes, so this only works
+ * for character sets in which the separator, quote, escape and line break
+ * characters can't be part of a multi-byte character, see
+ * {@link #supports(Charset, char, char, char)}.
+ *
+ * @author Lukas Eder
+ */
+public class ParallelCSVReader implements Closeable, Iterator<String[]> {
+
+    /**
+     * The default chunk size in bytes.
+     */
+    public static final int                         DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * The size of the windows that are mapped while scanning for record
+     * boundaries.
+     */
+    private static final int                        WINDOW_SIZE        = 64 * 1024 * 1024;
+
+    private final RandomAccessFile                  file;
+    private final FileChannel                       channel;
+    private final Charset                           charset;
+    private final char                              separator;
+    private final char                              quotechar;
+    private final char                              escape;
+    private final int                               parallelism;
+    private final Executor                          executor;
+    private final long[]                            boundaries;
+    private final boolean[]                         inField;
+    private final Deque<FutureTask<List<String[]>>> pending;
+    private int                                     submitted;
+    private Iterator<String[]>                      current;
+
+    /**
+     * Constructs a ParallelCSVReader.
+     *
+     * @param path the CSV file
+     * @param charset the file's character set, which must be supported
+     *            according to {@link #supports(Charset, char, char, char)}
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the number of lines to skip before reading
+     * @param chunkSize the approximate chunk size in bytes
+     * @param parallelism the maximum number of chunks parsed at the same time
+     * @param executor the executor parsing the chunks
+     * @throws IOException if bad things happen while scanning the file
+     */
+    public ParallelCSVReader(
+        File path,
+        Charset charset,
+        char separator,
+        char quotechar,
+        char escape,
+        int line,
+        int chunkSize,
+        int parallelism,
+        Executor executor
+    ) throws IOException {
+        if (!supports(charset, separator, quotechar, escape))
+            throw new UnsupportedOperationException("Character set or special characters not supported: " + charset);
+
+        this.file = new RandomAccessFile(path, "r");
+        this.channel = file.getChannel();
+        this.charset = charset;
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escape = escape;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = executor;
+        this.pending = new ArrayDeque<>();
+
+        try {
+            Boundaries b = new Boundaries(channel, separator, quotechar, escape);
+            this.boundaries = b.split(line, Math.max(1, chunkSize));
+            this.inField = b.inField;
+        }
+        catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Whether record boundaries can be detected in the undecoded bytes of a
+     * file of a given character set.
+     */
+    public static boolean supports(Charset charset, char separator, char quotechar, char escape) {
+        if (separator >= 0x80 || quotechar >= 0x80 || escape >= 0x80)
+            return false;
+
+        // ASCII compatible character sets whose multi-byte characters (if any)
+        // never contain bytes in the ASCII range
+        String name = charset.name();
+        return name.equals("UTF-8")
+            || name.equals("US-ASCII")
+            || name.startsWith("ISO-8859-")
+            || name.startsWith("windows-125");
+    }
+
+    /**
+     * The number of chunks the file was split into.
+     */
+    public int chunks() {
+        return boundaries.length - 1;
+    }
+
+    /**
+     * Closes the underlying file, cancelling any pending chunks.
+     *
+     * @throws IOException if the close fails
+     */
+    @Override
+    public void close() throws IOException {
+        for (FutureTask<List<String[]>> task : pending)
+            task.cancel(false);
+
+        pending.clear();
+        file.close();
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Iterator implementation
+    // ------------------------------------------------------------------------
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || !current.hasNext()) {
+            submit();
+
+            FutureTask<List<String[]>> task = pending.poll();
+            if (task == null)
+                return false;
+
+            try {
+                current = task.get().iterator();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        return current.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() method is not supported for CSV Iterator ");
+    }
+
+    /**
+     * Submit further chunks, up to the configured parallelism.
+     */
+    private final void submit() {
+        while (pending.size() < parallelism && submitted < chunks()) {
+            final boolean f = inField[submitted];
+            final long from = boundaries[submitted];
+            final long to = boundaries[++submitted];
+
+            FutureTask<List<String[]>> task = new FutureTask<>(new Callable<List<String[]>>() {
+                @Override
+                public List<String[]> call() throws Exception {
+                    return parse(from, to, f);
+                }
+            });
+
+            pending.add(task);
+            executor.execute(task);
+        }
+    }
+
+    private final List<String[]> parse(long from, long to, boolean f) throws IOException {
+        if (from == to)
+            return Collections.emptyList();
+
+        CharBuffer chars = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE)
+            .decode(channel.map(MapMode.READ_ONLY, from, to - from));
+
+        return new CSVScanner(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining(), separator, quotechar, escape, f).readAll();
+    }
+
+    /**
+     * A scanner for safe record boundaries, which mirrors the line by line
+     * quoting state of {@link CSVParser}.
+     */
+    private static final class Boundaries {
+        private final FileChannel channel;
+        private final long        size;
+        private final byte        separator;
+        private final byte        quotechar;
+        private final byte        escape;
+        private MappedByteBuffer  window;
+        private long              base;
+
+        /**
+         * The {@link CSVParser}'s field state at the beginning of each chunk,
+         * which affects how quotes at the beginning of a line are parsed.
+         */
+        boolean[]                 inField;
+
+        Boundaries(FileChannel channel, char separator, char quotechar, char escape) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.separator = (byte) separator;
+            this.quotechar = (byte) quotechar;
+            this.escape = (byte) escape;
+        }
+
+        final long[] split(int skipLines, int chunkSize) throws IOException {
+            long[] result = new long[16];
+            inField = new boolean[16];
+            int chunks = 0;
+            long pos = 0;
+
+            for (int i = 0; i < skipLines && pos < size; i++)
+                pos = skipLine(pos);
+
+            result[0] = pos;
+            long target = pos + chunkSize;
+            boolean quoted = false;
+            boolean field = false;
+
+            while (pos < size) {
+                byte b = get(pos++);
+
+                // Quoted sections continue on the next line
+                if (b == '\n' || b == '\r') {
+                    if (b == '\r' && pos < size && get(pos) == '\n')
+                        pos++;
+
+                    if (!quoted && pos >= target && pos < size) {
+                        if (++chunks == result.length - 1) {
+                            result = Arrays.copyOf(result, result.length * 2);
+                            inField = Arrays.copyOf(inField, inField.length * 2);
+                        }
+
+                        result[chunks] = pos;
+                        inField[chunks] = field;
+                        target = pos + chunkSize;
+                    }
+                }
+                else if (b == escape) {
+                    if ((quoted || field) && pos < size && (get(pos) == quotechar || get(pos) == escape))
+                        pos++;
+                }
+                else if (b == quotechar) {
+                    if ((quoted || field) && pos < size && get(pos) == quotechar)
+                        pos++;
+                    else
+                        quoted = !quoted;
+
+                    field = !field;
+                }
+                else if (b == separator && !quoted) {
+                    field = false;
+                }
+                else {
+                    field = true;
+                }
+            }
+
+            result[++chunks] = size;
+            window = null;
+            return Arrays.copyOf(result, chunks + 1);
+        }
+
+        private final long skipLine(long pos) throws IOException {
+            while (pos < size) {
+                byte b = get(pos++);
+
+                if (b == '\n')
+                    break;
+
+                if (b == '\r') {
+                    if (pos < size && get(pos) == '\n')
+                        pos++;
+
+                    break;
+                }
+            }
+
+            return pos;
+        }
+
+        private final byte get(long pos) throws IOException {
+            if (window == null || pos < base || pos >= base + window.limit()) {
+                base = pos;
+                window = channel.map(MapMode.READ_ONLY, base, Math.min(WINDOW_SIZE, size - base));
+            }
+
+            return window.get((int) (pos - base));
+        }
+    }
+}
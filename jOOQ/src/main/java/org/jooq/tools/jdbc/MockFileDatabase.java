@@ -45,10 +45,11 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -122,6 +123,7 @@ public class MockFileDatabase implements MockDataProvider {
     private final MockFileDatabaseConfiguration  configuration;
     private final Map<String, List<MockResult>>  matchExactly;
     private final Map<Pattern, List<MockResult>> matchPattern;
+    private final PatternIndex                   patternIndex;
     private final DSLContext                     create;
 
     @Deprecated
@@ -178,6 +180,7 @@ public class MockFileDatabase implements MockDataProvider {
         this.create = DSL.using(SQLDialect.DEFAULT);
 
         load();
+        this.patternIndex = new PatternIndex(matchPattern);
     }
 
     private static final Pattern END_OF_STATEMENT = Pattern.compile("^(.*?);[ \t]*$");
@@ -379,17 +382,8 @@ public class MockFileDatabase implements MockDataProvider {
             }
 
             // Check for the first pattern match
-            if (list == null) {
-
-                patternLoop:
-                for (Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet()) {
-                    if (    entry.getKey().matcher(sql).matches()
-                         || entry.getKey().matcher(inlined).matches()) {
-                        list = entry.getValue();
-                        break patternLoop;
-                    }
-                }
-            }
+            if (list == null)
+                list = patternIndex.match(sql, inlined);
 
             // [#9078] Listing possible reasons for this to happen
             if (list == null)
@@ -403,4 +397,135 @@ public class MockFileDatabase implements MockDataProvider {
             return list.toArray(new MockResult[list.size()]);
         }
     }
+
+    /**
+     * An index of patterns by their literal prefix.
+     * <p>
+     * Patterns are matched against the entire SQL string, so a pattern can only
+     * match strings that start with its literal prefix (if any). Rather than
+     * trying every pattern in sequence, the index walks a prefix trie along the
+     * SQL string to find the candidate patterns, and then tries only those in
+     * the order in which they were declared.
+     */
+    private static final class PatternIndex {
+        private final Pattern[]                patterns;
+        private final List<List<MockResult>>   results;
+        private final Node                     root;
+
+        PatternIndex(Map<Pattern, List<MockResult>> matchPattern) {
+            this.patterns = matchPattern.keySet().toArray(new Pattern[0]);
+            this.results = new ArrayList<>(matchPattern.values());
+            this.root = new Node();
+
+            for (int i = 0; i < patterns.length; i++) {
+                String prefix = prefix(patterns[i].pattern());
+                Node node = root;
+
+                for (int j = 0; j < prefix.length(); j++)
+                    node = node.child(prefix.charAt(j), true);
+
+                node.ordinals.set(i);
+            }
+        }
+
+        final List<MockResult> match(String sql, String inlined) {
+            if (patterns.length == 0)
+                return null;
+
+            BitSet candidates = new BitSet(patterns.length);
+            root.collect(sql, candidates);
+
+            if (inlined != null)
+                root.collect(inlined, candidates);
+
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1))
+                if (    patterns[i].matcher(sql).matches()
+                     || inlined != null && patterns[i].matcher(inlined).matches())
+                    return results.get(i);
+
+            return null;
+        }
+
+        /**
+         * Extract the literal prefix of a regular expression, i.e. the prefix
+         * that all matching strings must start with.
+         */
+        private static final String prefix(String regex) {
+
+            // Top level alternations could start with anything
+            if (regex.indexOf('|') >= 0)
+                return "";
+
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = 0; i < regex.length(); i++) {
+                char c = regex.charAt(i);
+
+                switch (c) {
+
+                    // Quantifiers making the previous character optional
+                    case '*':
+                    case '?':
+                    case '{':
+                        if (sb.length() > 0)
+                            sb.setLength(sb.length() - 1);
+
+                        return sb.toString();
+
+                    // Escaped special characters, such as \? are literals
+                    case '\\':
+                        if (i + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                            sb.append(regex.charAt(++i));
+                            break;
+                        }
+
+                        return sb.toString();
+
+                    case '[':
+                    case ']':
+                    case '(':
+                    case ')':
+                    case '}':
+                    case '.':
+                    case '+':
+                    case '^':
+                    case '$':
+                        return sb.toString();
+
+                    default:
+                        sb.append(c);
+                        break;
+                }
+            }
+
+            return sb.toString();
+        }
+
+        private static final class Node {
+            private final BitSet          ordinals = new BitSet();
+            private Map<Character, Node>  children;
+
+            final Node child(char c, boolean create) {
+                Node result = children == null ? null : children.get(c);
+
+                if (result == null && create) {
+                    if (children == null)
+                        children = new HashMap<>();
+
+                    children.put(c, result = new Node());
+                }
+
+                return result;
+            }
+
+            final void collect(String string, BitSet candidates) {
+                Node node = this;
+
+                for (int i = 0; node != null; i++) {
+                    candidates.or(node.ordinals);
+                    node = i < string.length() ? node.child(string.charAt(i), false) : null;
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,622 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.tools.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pull parser for JSON text.
+ * <p>
+ * Unlike {@link JSONParser}, which produces a tree of {@link Map} and
+ * {@link List} containers, this parser produces a sequence of {@link Event}
+ * tokens via {@link #next()}, scanning the input directly from a
+ * <code>char[]</code> buffer. Values of the current token are accessed through
+ * {@link #getString()}, {@link #getNumber()}, {@link #getLong()}, or
+ * {@link #getDouble()}. Numbers are decoded lazily, only when they are
+ * accessed.
+ * <p>
+ * A tree can still be produced for any value using
+ * {@link #readValue(ContainerFactory)}.
+ * <p>
+ * Please note that this parser is NOT thread-safe.
+ *
+ * @author Lukas Eder
+ */
+public final class JSONPullParser implements Closeable {
+
+    /**
+     * The token types produced by {@link JSONPullParser#next()}.
+     */
+    public enum Event {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        KEY_NAME,
+        VALUE_STRING,
+        VALUE_NUMBER,
+        VALUE_TRUE,
+        VALUE_FALSE,
+        VALUE_NULL,
+        END_DOCUMENT
+    }
+
+    private static final int        BUFFER_SIZE                = 8192;
+
+    private static final int        CONTEXT_ARRAY              = 0;
+    private static final int        CONTEXT_OBJECT             = 1;
+
+    private static final int        S_VALUE                    = 0;
+    private static final int        S_FIRST_VALUE_OR_END_ARRAY = 1;
+    private static final int        S_FIRST_KEY_OR_END_OBJECT  = 2;
+    private static final int        S_KEY                      = 3;
+    private static final int        S_COMMA_OR_END             = 4;
+    private static final int        S_END                      = 5;
+    private static final int        S_DONE                     = 6;
+
+    private final Reader            in;
+    private final char[]            buf;
+    private int                     pos;
+    private int                     limit;
+    private int                     offset;
+
+    private int[]                   contexts                   = new int[16];
+    private int                     depth;
+    private int                     state                      = S_VALUE;
+    private Event                   event;
+
+    private String                  string;
+    private final StringBuilder     sb                         = new StringBuilder();
+    private char[]                  number                     = new char[32];
+    private int                     numberLength;
+    private boolean                 integer;
+
+    /**
+     * Create a parser reading JSON text from a {@link Reader}.
+     */
+    public JSONPullParser(Reader in) {
+        this.in = in;
+        this.buf = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Create a parser reading JSON text from a {@link String}.
+     */
+    public JSONPullParser(String s) {
+        this.in = null;
+        this.buf = s.toCharArray();
+        this.limit = buf.length;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Token API
+    // -------------------------------------------------------------------------
+
+    /**
+     * Advance to the next token.
+     *
+     * @return The next token. After the top level value, this is
+     *         {@link Event#END_DOCUMENT}, which is returned repeatedly.
+     * @throws ParseException If the JSON text is malformed.
+     */
+    public Event next() throws IOException, ParseException {
+        int c = skipWhitespace();
+
+        switch (state) {
+            case S_VALUE:
+                return event = value(c);
+
+            case S_FIRST_VALUE_OR_END_ARRAY:
+                if (c == ']')
+                    return event = end(Event.END_ARRAY);
+                else
+                    return event = value(c);
+
+            case S_FIRST_KEY_OR_END_OBJECT:
+                if (c == '}')
+                    return event = end(Event.END_OBJECT);
+                else
+                    return event = key(c);
+
+            case S_KEY:
+                return event = key(c);
+
+            case S_COMMA_OR_END:
+                if (c == ',') {
+                    pos++;
+
+                    if (contexts[depth - 1] == CONTEXT_OBJECT)
+                        return event = key(skipWhitespace());
+                    else
+                        return event = value(skipWhitespace());
+                }
+                else if (c == ']' && contexts[depth - 1] == CONTEXT_ARRAY)
+                    return event = end(Event.END_ARRAY);
+                else if (c == '}' && contexts[depth - 1] == CONTEXT_OBJECT)
+                    return event = end(Event.END_OBJECT);
+                else
+                    throw unexpected(c);
+
+            case S_END:
+                if (c != -1)
+                    throw unexpected(c);
+
+                state = S_DONE;
+                return event = Event.END_DOCUMENT;
+
+            case S_DONE:
+            default:
+                return event = Event.END_DOCUMENT;
+        }
+    }
+
+    /**
+     * The current token, i.e. the one last returned by {@link #next()}.
+     */
+    public Event event() {
+        return event;
+    }
+
+    /**
+     * The key name or string value of the current token.
+     */
+    public String getString() {
+        if (event == Event.VALUE_NUMBER)
+            return new String(number, 0, numberLength);
+        else
+            return string;
+    }
+
+    /**
+     * The numeric value of the current token, which is a {@link Long} for
+     * integer numbers (or a {@link BigInteger}, if the value doesn't fit in a
+     * <code>long</code>), or a {@link Double} otherwise.
+     */
+    public Number getNumber() {
+        if (integer) {
+            if (numberLength <= 18)
+                return getLong();
+
+            try {
+                return Long.valueOf(getString());
+            }
+            catch (NumberFormatException e) {
+                return new BigInteger(getString());
+            }
+        }
+        else
+            return Double.valueOf(getString());
+    }
+
+    /**
+     * The numeric value of the current token as a <code>long</code>.
+     */
+    public long getLong() {
+        if (integer && numberLength <= 18) {
+            boolean negative = number[0] == '-';
+            long result = 0;
+
+            for (int i = negative ? 1 : 0; i < numberLength; i++)
+                result = result * 10 + (number[i] - '0');
+
+            return negative ? -result : result;
+        }
+        else
+            return getNumber().longValue();
+    }
+
+    /**
+     * The numeric value of the current token as a <code>double</code>.
+     */
+    public double getDouble() {
+        return Double.parseDouble(getString());
+    }
+
+    /**
+     * The character position (starting with 0) of the parser in the input.
+     */
+    public int getPosition() {
+        return offset + pos;
+    }
+
+    /**
+     * Skip the value starting with the current token, including all of its
+     * nested values, if it is a {@link Event#START_OBJECT} or
+     * {@link Event#START_ARRAY} token.
+     */
+    public void skipValue() throws IOException, ParseException {
+        if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+            int d = depth;
+
+            while (depth >= d)
+                next();
+        }
+    }
+
+    /**
+     * Read the value starting with the current token into a tree of containers,
+     * as produced by {@link JSONParser#parse(Reader, ContainerFactory)}.
+     *
+     * @param containerFactory The factory for objects and arrays, or
+     *            <code>null</code> to use {@link JSONObject} and
+     *            {@link JSONArray}.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Object readValue(ContainerFactory containerFactory) throws IOException, ParseException {
+        switch (event) {
+            case START_OBJECT: {
+                Map result = createObjectContainer(containerFactory);
+
+                while (next() == Event.KEY_NAME) {
+                    String key = string;
+                    next();
+                    result.put(key, readValue(containerFactory));
+                }
+
+                return result;
+            }
+
+            case START_ARRAY: {
+                List result = createArrayContainer(containerFactory);
+
+                while (next() != Event.END_ARRAY)
+                    result.add(readValue(containerFactory));
+
+                return result;
+            }
+
+            case VALUE_STRING:
+                return string;
+            case VALUE_NUMBER:
+                return getNumber();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+
+            default:
+                throw new ParseException(getPosition(), ParseException.ERROR_UNEXPECTED_TOKEN, event);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null)
+            in.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Scanning
+    // -------------------------------------------------------------------------
+
+    private final Event value(int c) throws IOException, ParseException {
+        switch (c) {
+            case '{':
+                pos++;
+                push(CONTEXT_OBJECT);
+                state = S_FIRST_KEY_OR_END_OBJECT;
+                return Event.START_OBJECT;
+
+            case '[':
+                pos++;
+                push(CONTEXT_ARRAY);
+                state = S_FIRST_VALUE_OR_END_ARRAY;
+                return Event.START_ARRAY;
+
+            case '"':
+                pos++;
+                string = string();
+                afterValue();
+                return Event.VALUE_STRING;
+
+            case 't':
+                literal("true");
+                afterValue();
+                return Event.VALUE_TRUE;
+
+            case 'f':
+                literal("false");
+                afterValue();
+                return Event.VALUE_FALSE;
+
+            case 'n':
+                literal("null");
+                afterValue();
+                return Event.VALUE_NULL;
+
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                number();
+                afterValue();
+                return Event.VALUE_NUMBER;
+
+            default:
+                throw unexpected(c);
+        }
+    }
+
+    private final Event key(int c) throws IOException, ParseException {
+        if (c != '"')
+            throw unexpected(c);
+
+        pos++;
+        string = string();
+
+        if ((c = skipWhitespace()) != ':')
+            throw unexpected(c);
+
+        pos++;
+        state = S_VALUE;
+        return Event.KEY_NAME;
+    }
+
+    private final Event end(Event e) {
+        pos++;
+        depth--;
+        afterValue();
+        return e;
+    }
+
+    private final void push(int context) {
+        if (depth == contexts.length) {
+            int[] copy = new int[depth * 2];
+            System.arraycopy(contexts, 0, copy, 0, depth);
+            contexts = copy;
+        }
+
+        contexts[depth++] = context;
+    }
+
+    private final void afterValue() {
+        state = depth == 0 ? S_END : S_COMMA_OR_END;
+    }
+
+    private final int skipWhitespace() throws IOException {
+        for (;;) {
+            if (pos == limit && !fill())
+                return -1;
+
+            char c = buf[pos];
+
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f')
+                pos++;
+            else
+                return c;
+        }
+    }
+
+    private final String string() throws IOException, ParseException {
+
+        // Fast path: The string doesn't contain any escape sequences and is
+        // contained entirely in the current buffer
+        for (int i = pos; i < limit; i++) {
+            char c = buf[i];
+
+            if (c == '"') {
+                String result = new String(buf, pos, i - pos);
+                pos = i + 1;
+                return result;
+            }
+            else if (c == '\\')
+                break;
+        }
+
+        sb.setLength(0);
+        for (;;) {
+            int start = pos;
+
+            while (pos < limit && buf[pos] != '"' && buf[pos] != '\\')
+                pos++;
+
+            sb.append(buf, start, pos - start);
+
+            if (pos == limit) {
+                if (!fill())
+                    throw unexpected(-1);
+            }
+            else if (buf[pos++] == '"') {
+                return sb.toString();
+            }
+            else {
+                int c = read();
+
+                switch (c) {
+                    case '"':  sb.append('"');  break;
+                    case '\\': sb.append('\\'); break;
+                    case '/':  sb.append('/');  break;
+                    case 'b':  sb.append('\b'); break;
+                    case 'f':  sb.append('\f'); break;
+                    case 'n':  sb.append('\n'); break;
+                    case 'r':  sb.append('\r'); break;
+                    case 't':  sb.append('\t'); break;
+                    case 'u': {
+                        int ch = 0;
+
+                        for (int i = 0; i < 4; i++) {
+                            int r = read();
+                            int h = r == -1 ? -1 : Character.digit(r, 16);
+
+                            if (h < 0)
+                                throw unexpected(r);
+
+                            ch = ch * 16 + h;
+                        }
+
+                        sb.append((char) ch);
+                        break;
+                    }
+
+                    default:
+                        throw unexpected(c);
+                }
+            }
+        }
+    }
+
+    private final void number() throws IOException, ParseException {
+        numberLength = 0;
+        integer = true;
+
+        int c = peek();
+        if (c == '-')
+            c = appendNumber();
+
+        if (digits(c) == 0)
+            throw unexpected(peek());
+
+        if ((c = peek()) == '.') {
+            integer = false;
+            appendNumber();
+
+            if (digits(peek()) == 0)
+                throw unexpected(peek());
+
+            c = peek();
+        }
+
+        if (c == 'e' || c == 'E') {
+            integer = false;
+            c = appendNumber();
+
+            if (c == '+' || c == '-')
+                c = appendNumber();
+
+            if (digits(c) == 0)
+                throw unexpected(peek());
+        }
+    }
+
+    private final int digits(int c) throws IOException {
+        int result = 0;
+
+        while (c >= '0' && c <= '9') {
+            c = appendNumber();
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Append the current character to the number and return the next one.
+     */
+    private final int appendNumber() throws IOException {
+        if (numberLength == number.length) {
+            char[] copy = new char[numberLength * 2];
+            System.arraycopy(number, 0, copy, 0, numberLength);
+            number = copy;
+        }
+
+        number[numberLength++] = buf[pos++];
+        return peek();
+    }
+
+    private final void literal(String literal) throws IOException, ParseException {
+        for (int i = 0; i < literal.length(); i++) {
+            int c = read();
+
+            if (c != literal.charAt(i))
+                throw unexpected(c);
+        }
+    }
+
+    private final int peek() throws IOException {
+        if (pos == limit && !fill())
+            return -1;
+
+        return buf[pos];
+    }
+
+    private final int read() throws IOException {
+        if (pos == limit && !fill())
+            return -1;
+
+        return buf[pos++];
+    }
+
+    private final boolean fill() throws IOException {
+        if (in == null)
+            return false;
+
+        offset += limit;
+        pos = 0;
+        limit = 0;
+
+        int read = in.read(buf, 0, buf.length);
+        if (read <= 0)
+            return false;
+
+        limit = read;
+        return true;
+    }
+
+    private final ParseException unexpected(int c) {
+        if (c == -1)
+            return new ParseException(getPosition(), ParseException.ERROR_UNEXPECTED_TOKEN, new Yytoken(Yytoken.TYPE_EOF, null));
+        else
+            return new ParseException(getPosition(), ParseException.ERROR_UNEXPECTED_CHAR, Character.valueOf((char) c));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final Map createObjectContainer(ContainerFactory containerFactory) {
+        Map result = containerFactory == null ? null : containerFactory.createObjectContainer();
+        return result == null ? new JSONObject() : result;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final List createArrayContainer(ContainerFactory containerFactory) {
+        List result = containerFactory == null ? null : containerFactory.createArrayContainer();
+        return result == null ? new JSONArray() : result;
+    }
+}